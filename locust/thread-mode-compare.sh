@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본값) vs 가상 스레드 모드 비교용 부하 측정 (결과 수집만 수행하며 비교/판단은 직접)
+#
+# 사용법: ./locust/thread-mode-compare.sh [users] [spawn-rate] [run-time]
+#   예) ./locust/thread-mode-compare.sh 500 50 3m
+#
+# 각 모드마다 spring-app 컨테이너를 재시작한 뒤 per-test.py를 headless로 실행하고,
+# locust CSV(응답시간 분포/RPS)와 /api/cache-stats, JVM 스레드 수를 results/<mode>/ 에 저장합니다.
+set -euo pipefail
+
+USERS=${1:-500}
+SPAWN_RATE=${2:-50}
+RUN_TIME=${3:-3m}
+
+ROOT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+RESULT_DIR="$ROOT_DIR/locust/results"
+HOST="http://localhost:8080"
+
+for mode in false true; do
+  label=$([ "$mode" = "true" ] && echo "virtual" || echo "platform")
+  echo "=== ${label} threads (VIRTUAL_THREADS_ENABLED=${mode}) ==="
+
+  (cd "$ROOT_DIR/docker" && VIRTUAL_THREADS_ENABLED=$mode docker compose up -d --build --force-recreate spring-app)
+  until curl -sf "$HOST/api/actuator/health" > /dev/null; do sleep 1; done
+
+  mkdir -p "$RESULT_DIR/$label"
+  locust -f "$ROOT_DIR/locust/per-test.py" --headless \
+    -u "$USERS" -r "$SPAWN_RATE" -t "$RUN_TIME" \
+    --csv "$RESULT_DIR/$label/locust" | tee "$RESULT_DIR/$label/summary.txt"
+
+  curl -s "$HOST/api/cache-stats" > "$RESULT_DIR/$label/cache-stats.json"
+  curl -s "$HOST/api/actuator/metrics/jvm.threads.live" > "$RESULT_DIR/$label/jvm-threads.json"
+done
+
+echo "결과: $RESULT_DIR/{platform,virtual}"
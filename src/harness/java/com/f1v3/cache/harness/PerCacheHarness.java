@@ -0,0 +1,172 @@
+package com.f1v3.cache.harness;
+
+import com.f1v3.cache.common.cache.PerCacheSupport;
+import com.f1v3.cache.common.cache.PerRedisCacheManager;
+import com.f1v3.cache.common.cache.ReactivePerCacheManager;
+import com.f1v3.cache.common.cache.admission.CacheAdmissionPolicy;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.local.LocalSingleFlight;
+import com.f1v3.cache.common.cache.local.NearCache;
+import com.f1v3.cache.common.cache.local.NearCacheInvalidator;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.notify.CacheFillNotifier;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.f1v3.cache.common.cache.refresh.CacheRefreshExecutor;
+import com.f1v3.cache.common.cache.script.CacheScriptExecutor;
+import com.f1v3.cache.common.cache.stats.PerCacheStats;
+import com.f1v3.cache.common.cache.ttl.AdaptiveTtlPolicy;
+import com.f1v3.cache.config.redis.CacheCodecConfig;
+import com.f1v3.cache.config.redis.LuaScriptConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스프링 컨텍스트 없이 조립한 PER 캐시 매니저 (JMH 벤치마크, 스탬피드 시뮬레이터 공용).
+ * <p>
+ * 캐시 스크립트가 Hash 필드 TTL(Redis 7.4+)을 사용하므로 임베디드 구현 대신 새 Redis 컨테이너를 띄우며,
+ * {@code RedisConfig}/{@code LuaScriptConfig}와 같은 템플릿, 스크립트, 팔로워 적재 알림(Pub/Sub) 구독까지 연결합니다. (Docker 필요)
+ *
+ * @author Seungjo, Jeong
+ */
+public class PerCacheHarness implements AutoCloseable {
+
+    public static final String DEFAULT_REDIS_IMAGE = "redis:8.2";
+
+    private static final int REDIS_PORT = 6379;
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(3000);
+
+    private final GenericContainer<?> redis;
+    private final ClientResources clientResources;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CacheScriptExecutor cacheScriptExecutor;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+    private final PerRedisCacheManager perRedisCacheManager;
+    private final ReactivePerCacheManager reactivePerCacheManager;
+
+    public PerCacheHarness(String redisImage, PerCacheProperties properties, MeterRegistry meterRegistry)
+            throws IOException {
+        redis = new GenericContainer<>(DockerImageName.parse(redisImage)).withExposedPorts(REDIS_PORT);
+        redis.start();
+
+        clientResources = DefaultClientResources.create();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(REDIS_PORT)),
+                LettuceClientConfiguration.builder()
+                        .clientResources(clientResources)
+                        .commandTimeout(COMMAND_TIMEOUT)
+                        .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build())
+                        .build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        CacheCodecConfig codecConfig = new CacheCodecConfig();
+        CachePolicyRegistry cachePolicyRegistry = new CachePolicyRegistry(properties,
+                codecConfig.cacheCodec(properties, objectMapper),
+                codecConfig.cacheCodecFactory(properties, objectMapper));
+        PerCacheMetrics perCacheMetrics = new PerCacheMetrics(meterRegistry, cachePolicyRegistry);
+        PerCacheSupport cacheSupport = new PerCacheSupport(
+                new AdaptiveTtlPolicy(properties), new CacheAdmissionPolicy(properties), perCacheMetrics);
+        PerCacheStats cacheStats = new PerCacheStats(perCacheMetrics);
+
+        LuaScriptConfig scripts = new LuaScriptConfig();
+        var getOrLock = scripts.cacheGetOrLockRedisScript();
+        var getAll = scripts.cacheGetAllRedisScript();
+        var setAndUnlock = scripts.cacheSetAndUnlockRedisScript();
+        var lock = scripts.lockScript();
+        var unlock = scripts.unlockScript();
+
+        cacheScriptExecutor = new CacheScriptExecutor(cacheRedisTemplate(), reactiveCacheRedisTemplate(),
+                List.of(getOrLock, getAll, setAndUnlock, lock, unlock), clientResources);
+        cacheScriptExecutor.preload();
+
+        NearCache nearCache = new NearCache(properties);
+        LocalSingleFlight localSingleFlight = new LocalSingleFlight();
+        CacheFillNotifier cacheFillNotifier = new CacheFillNotifier(properties);
+        nearCacheInvalidator = new NearCacheInvalidator(redisTemplate(), nearCache, properties);
+        cacheRefreshExecutor = new CacheRefreshExecutor(properties);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(cacheFillNotifier, new PatternTopic(cacheFillNotifier.channelPattern()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        perRedisCacheManager = new PerRedisCacheManager(
+                cacheScriptExecutor, getOrLock, getAll, setAndUnlock, lock, unlock,
+                properties, cacheSupport, cachePolicyRegistry, nearCache, nearCacheInvalidator,
+                localSingleFlight, cacheFillNotifier, cacheRefreshExecutor, cacheStats, perCacheMetrics);
+        reactivePerCacheManager = new ReactivePerCacheManager(
+                cacheScriptExecutor, getOrLock, getAll, setAndUnlock, lock, unlock,
+                properties, cacheSupport, cachePolicyRegistry, nearCache, nearCacheInvalidator,
+                localSingleFlight, cacheFillNotifier, cacheRefreshExecutor, cacheStats, perCacheMetrics);
+    }
+
+    public PerRedisCacheManager perRedisCacheManager() {
+        return perRedisCacheManager;
+    }
+
+    public ReactivePerCacheManager reactivePerCacheManager() {
+        return reactivePerCacheManager;
+    }
+
+    @Override
+    public void close() throws Exception {
+        perRedisCacheManager.shutdown();
+        cacheRefreshExecutor.shutdown();
+        nearCacheInvalidator.shutdown();
+        listenerContainer.destroy();
+        cacheScriptExecutor.shutdown();
+        connectionFactory.destroy();
+        clientResources.shutdown();
+        redis.stop();
+    }
+
+    private RedisTemplate<String, byte[]> cacheRedisTemplate() {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private ReactiveRedisTemplate<String, byte[]> reactiveCacheRedisTemplate() {
+        return new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext
+                .<String, byte[]>newSerializationContext(StringRedisSerializer.UTF_8)
+                .value(RedisSerializationContext.SerializationPair.byteArray())
+                .build());
+    }
+
+    private RedisTemplate<String, Object> redisTemplate() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
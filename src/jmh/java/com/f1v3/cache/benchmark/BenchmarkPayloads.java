@@ -0,0 +1,46 @@
+package com.f1v3.cache.benchmark;
+
+import com.f1v3.cache.dto.SearchBookResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 캐시 값: 실제 카카오 도서 검색 응답과 비슷한 크기와 구성(10건, 한글/영문 혼합)의 {@link SearchBookResponse}.
+ *
+ * @author Seungjo, Jeong
+ */
+final class BenchmarkPayloads {
+
+    private static final List<String> TITLES = List.of(
+            "Effective Java", "Clean Code", "Spring in Action", "Java Concurrency in Practice",
+            "Domain-Driven Design", "Clean Architecture", "Refactoring", "Microservices Patterns",
+            "스프링 부트 핵심 가이드", "자바 ORM 표준 JPA 프로그래밍", "토비의 스프링 3.1", "이펙티브 자바 3판"
+    );
+
+    private static final List<String> AUTHORS = List.of(
+            "Joshua Bloch", "Robert C. Martin", "Craig Walls", "Brian Goetz",
+            "Eric Evans", "Martin Fowler", "김영한", "이일민", "장정우"
+    );
+
+    private BenchmarkPayloads() {
+    }
+
+    static SearchBookResponse searchBookResponse(Random random, String query, int page) {
+        List<SearchBookResponse.Book> books = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String title = TITLES.get(random.nextInt(TITLES.size()));
+            books.add(new SearchBookResponse.Book(
+                    title + " - " + query + " 편 (" + (page * 10 + i) + ")",
+                    AUTHORS.get(random.nextInt(AUTHORS.size())),
+                    LocalDate.of(2000 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                    "https://search1.kakaocdn.net/thumb/R120x174.q85/?fname=http%3A%2F%2Ft1.daumcdn.net%2Flbook%2Fimage%2F"
+                            + (1_000_000 + random.nextInt(9_000_000)) + "%3Ftimestamp%3D2025"
+            ));
+        }
+        SearchBookResponse.PageInfo pageInfo = new SearchBookResponse.PageInfo(false, 1000, 3250, page);
+        return new SearchBookResponse(books, pageInfo);
+    }
+}
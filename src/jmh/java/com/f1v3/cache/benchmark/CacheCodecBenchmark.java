@@ -0,0 +1,89 @@
+package com.f1v3.cache.benchmark;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.config.redis.CacheCodecConfig;
+import com.f1v3.cache.dto.SearchBookResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.luben.zstd.ZstdDictTrainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 Codec별 압축률과 인코딩/디코딩 CPU 비용 비교.
+ * <p>
+ * 압축률은 Trial 시작 시 표준 출력으로, CPU 비용은 JMH 결과(ns/op)로 확인합니다.
+ * 사전(dict)은 벤치마크 대상과 겹치지 않는 샘플 응답으로 학습합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({"SMILE", "JSON"})
+    private PerCacheProperties.Codec codec;
+
+    @Param({"none", "zstd", "zstd-dict"})
+    private String compression;
+
+    private CacheCodec cacheCodec;
+    private SearchBookResponse payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.setCodec(codec);
+        properties.getCompression().setEnabled(!"none".equals(compression));
+        if ("zstd-dict".equals(compression)) {
+            properties.getCompression().setDictionary(new ByteArrayResource(trainDictionary(objectMapper, properties)));
+        }
+
+        cacheCodec = new CacheCodecConfig().cacheCodec(properties, objectMapper);
+        payload = BenchmarkPayloads.searchBookResponse(new Random(42), "springboot", 1);
+        encoded = cacheCodec.encode(payload);
+
+        int rawSize = objectMapper.writeValueAsBytes(payload).length;
+        System.out.printf("%n[ratio] codec=%s compression=%s json=%dB encoded=%dB ratio=%.3f%n",
+                codec, compression, rawSize, encoded.length, (double) encoded.length / rawSize);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return cacheCodec.encode(payload);
+    }
+
+    @Benchmark
+    public SearchBookResponse decode() {
+        return cacheCodec.decode(encoded, SearchBookResponse.class);
+    }
+
+    private byte[] trainDictionary(ObjectMapper objectMapper, PerCacheProperties properties) throws Exception {
+        PerCacheProperties plain = new PerCacheProperties();
+        plain.setCodec(properties.getCodec());
+        CacheCodec sampleCodec = new CacheCodecConfig().cacheCodec(plain, objectMapper);
+
+        ZstdDictTrainer trainer = new ZstdDictTrainer(4 * 1024 * 1024, 16 * 1024);
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            trainer.addSample(sampleCodec.encode(BenchmarkPayloads.searchBookResponse(random, "tail_" + i, 1 + i % 5)));
+        }
+        return trainer.trainSamples();
+    }
+}
@@ -0,0 +1,95 @@
+package com.f1v3.cache.benchmark;
+
+import com.f1v3.cache.common.cache.PerRedisCacheManager;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.dto.SearchBookResponse;
+import com.f1v3.cache.harness.PerCacheHarness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link PerRedisCacheManager#get} 히트/미스 경로의 요청당 비용.
+ * <p>
+ * Testcontainers로 띄운 단일 Redis(Hash 필드 TTL을 지원하는 8.x)에 {@link PerCacheHarness}로 매니저를 조립합니다.
+ * 실행 환경에 Docker가 필요하며, 네트워크 왕복은 로컬 루프백 기준이므로 절대값보다 변경 전후 비교에 사용합니다.
+ * <ul>
+ *  <li>{@code getHit}: 미리 적재한 키 조회 (L1 사용 시 L1 히트, 미사용 시 복제본 읽기 스크립트 1회)</li>
+ *  <li>{@code getMiss}: 매번 새 키 → 조회+락 스크립트, 재계산, 직렬화, 저장+락 해제 스크립트</li>
+ * </ul>
+ * 미스 경로에서 쌓이는 키는 짧은 TTL의 별도 캐시({@code miss})에 저장해 반복 실행 중 메모리가 늘지 않도록 합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PerCacheManagerBenchmark {
+
+    private static final String HIT_CACHE = "hit";
+    private static final String MISS_CACHE = "miss";
+    private static final String HIT_KEY = "springboot:1";
+
+    @Param({"false", "true"})
+    private boolean nearCache;
+
+    private final AtomicLong missSequence = new AtomicLong();
+
+    private PerCacheHarness harness;
+    private PerRedisCacheManager cacheManager;
+    private SearchBookResponse payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        harness = new PerCacheHarness(PerCacheHarness.DEFAULT_REDIS_IMAGE, properties(), new SimpleMeterRegistry());
+        cacheManager = harness.perRedisCacheManager();
+
+        payload = BenchmarkPayloads.searchBookResponse(new Random(42), "springboot", 1);
+        cacheManager.get(HIT_CACHE, HIT_KEY, SearchBookResponse.class, () -> payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        harness.close();
+    }
+
+    @Benchmark
+    public SearchBookResponse getHit() {
+        return cacheManager.get(HIT_CACHE, HIT_KEY, SearchBookResponse.class, () -> payload);
+    }
+
+    @Benchmark
+    public SearchBookResponse getMiss() {
+        return cacheManager.get(MISS_CACHE, Long.toString(missSequence.incrementAndGet()),
+                SearchBookResponse.class, () -> payload);
+    }
+
+    private PerCacheProperties properties() {
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.getLocal().setEnabled(nearCache);
+
+        // 측정 중 PER 조기 갱신이 끼어들지 않도록 히트 대상은 긴 TTL 사용
+        PerCacheProperties.CacheSpec hit = new PerCacheProperties.CacheSpec();
+        hit.setDefaultTtl(600_000L);
+        properties.getCaches().put(HIT_CACHE, hit);
+
+        PerCacheProperties.CacheSpec miss = new PerCacheProperties.CacheSpec();
+        miss.setDefaultTtl(1_000L);
+        miss.setDeltaRetentionMs(1_000L);
+        properties.getCaches().put(MISS_CACHE, miss);
+        return properties;
+    }
+}
@@ -0,0 +1,119 @@
+package com.f1v3.cache.benchmark;
+
+import com.f1v3.cache.common.cache.PerCacheSupport;
+import com.f1v3.cache.common.cache.admission.CacheAdmissionPolicy;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.key.EntryKey;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.f1v3.cache.common.cache.ttl.AdaptiveTtlPolicy;
+import com.f1v3.cache.config.redis.CacheCodecConfig;
+import com.f1v3.cache.dto.SearchBookResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 매니저가 조회마다 수행하는 CPU 작업: 값 직렬화/역직렬화(지표 기록 포함)와 PER 판단.
+ * <p>
+ * {@code shouldRecompute}는 만료까지 여유가 있는 값(대부분의 히트)과 만료 직전 값을 나누어 측정합니다.
+ * {@code entryKey}/{@code getOrLockArgs}는 L1 미스마다 만드는 엔트리 키와 스크립트 인자를 키 전략(raw, hashed)별로 측정합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PerCacheSupportBenchmark {
+
+    private static final Integer DELTA_MS = 120;
+    private static final Long FRESH_TTL_MS = 50_000L;
+    private static final Long EXPIRING_TTL_MS = 100L;
+    private static final String HASHED_CACHE = "hashed";
+    private static final String REDIS_KEY = HASHED_CACHE + ":effectivejavathirdeditionjoshuabloch:1";
+    private static final byte[] TOKEN = "node:1".getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"SMILE", "JSON"})
+    private PerCacheProperties.Codec codec;
+
+    private PerCacheSupport cacheSupport;
+    private CachePolicy policy;
+    private CachePolicy hashedPolicy;
+    private SearchBookResponse payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.setCodec(codec);
+
+        PerCacheProperties.CacheSpec hashed = new PerCacheProperties.CacheSpec();
+        hashed.setKeyStrategy(PerCacheProperties.KeyStrategy.HASHED);
+        properties.getCaches().put(HASHED_CACHE, hashed);
+
+        CacheCodecConfig codecConfig = new CacheCodecConfig();
+        CachePolicyRegistry registry = new CachePolicyRegistry(properties,
+                codecConfig.cacheCodec(properties, objectMapper),
+                codecConfig.cacheCodecFactory(properties, objectMapper));
+
+        cacheSupport = new PerCacheSupport(
+                new AdaptiveTtlPolicy(properties),
+                new CacheAdmissionPolicy(properties),
+                new PerCacheMetrics(new SimpleMeterRegistry(), registry));
+        policy = registry.defaultPolicy();
+        hashedPolicy = registry.get(HASHED_CACHE);
+        payload = BenchmarkPayloads.searchBookResponse(new Random(42), "springboot", 1);
+        encoded = cacheSupport.serializeValue(payload, policy);
+    }
+
+    @Benchmark
+    public byte[] serializeValue() {
+        return cacheSupport.serializeValue(payload, policy);
+    }
+
+    @Benchmark
+    public SearchBookResponse deserializeData() {
+        return cacheSupport.deserializeData(encoded, SearchBookResponse.class, policy);
+    }
+
+    @Benchmark
+    public boolean shouldRecomputeFresh() {
+        return cacheSupport.shouldRecompute(DELTA_MS, FRESH_TTL_MS, policy);
+    }
+
+    @Benchmark
+    public boolean shouldRecomputeExpiring() {
+        return cacheSupport.shouldRecompute(DELTA_MS, EXPIRING_TTL_MS, policy);
+    }
+
+    @Benchmark
+    public EntryKey entryKeyRaw() {
+        return policy.entryKey(REDIS_KEY);
+    }
+
+    @Benchmark
+    public EntryKey entryKeyHashed() {
+        return hashedPolicy.entryKey(REDIS_KEY);
+    }
+
+    @Benchmark
+    public byte[][] getOrLockArgsHashed() {
+        return cacheSupport.getOrLockArgs(hashedPolicy.entryKey(REDIS_KEY), TOKEN, 1.0, hashedPolicy);
+    }
+}
@@ -0,0 +1,36 @@
+package com.f1v3.cache.benchmark;
+
+import com.f1v3.cache.common.normalizer.QueryNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 정규화 비용. 모든 검색 요청이 캐시 키를 만들기 전에 거치는 경로입니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryNormalizerBenchmark {
+
+    // 이미 정규화된 검색어 / 대소문자, 공백 / 한글, 특수문자가 섞인 긴 검색어
+    @Param({
+            "springboot",
+            "Spring Boot In Action",
+            "  이펙티브   자바 3판 (Effective Java 3/E) - Joshua Bloch!! "
+    })
+    private String query;
+
+    @Benchmark
+    public String normalize() {
+        return QueryNormalizer.normalize(query);
+    }
+}
@@ -0,0 +1,258 @@
+package com.f1v3.cache.common.cache;
+
+import com.f1v3.cache.common.cache.admission.CacheAdmissionPolicy;
+import com.f1v3.cache.common.cache.dto.CacheResult;
+import com.f1v3.cache.common.cache.key.EntryKey;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.ttl.AdaptiveTtlPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동기({@link PerRedisCacheManager}) / 리액티브({@link ReactivePerCacheManager}) 캐시 매니저가 공유하는
+ * 키 규칙, 스크립트 인자/결과 변환, PER 판단, 직렬화 로직.
+ * 캐시별로 달라지는 값(PER beta, TTL, 락 TTL, Codec 등)은 {@link CachePolicy}에서 읽습니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+@RequiredArgsConstructor
+public class PerCacheSupport {
+
+    /**
+     * 값이 있을 때는 락을 시도하지 않음을 뜻하는 PER 계수 (팔로워 재조회)
+     */
+    public static final double NO_EARLY_REFRESH = -1;
+
+    private static final CacheResult<byte[]> MISS = new CacheResult<>(null, null, null, null, null, false, false, false);
+    private static final byte[][] NO_ARGS = new byte[0][];
+
+    private final AdaptiveTtlPolicy adaptiveTtlPolicy;
+    private final CacheAdmissionPolicy cacheAdmissionPolicy;
+    private final PerCacheMetrics perCacheMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong lockSequence = new AtomicLong();
+
+    /**
+     * 다건 조회 스크립트 KEYS. 엔트리 1개 = Redis Hash 1개 (value, delta, expireAt, version, lock 필드,
+     * 해시 키 전략이라면 지문 key 필드).
+     */
+    public List<String> scriptKeys(List<EntryKey> keys) {
+        return keys.stream().map(EntryKey::storageKey).toList();
+    }
+
+    /**
+     * 노드 식별자 + 순번. 조회마다 토큰을 만들기 때문에 SecureRandom 기반 UUID 생성을 피합니다.
+     */
+    public byte[] newLockToken() {
+        return (nodeId + ":" + lockSequence.incrementAndGet()).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * per_cache_lock.lua 인자: 락 토큰, 락 TTL
+     */
+    public byte[][] lockArgs(byte[] token, CachePolicy policy) {
+        return new byte[][]{token, toBytes(policy.getLockTtlMs())};
+    }
+
+    /**
+     * per_cache_get_or_lock.lua 인자: 락 토큰, 락 TTL, PER 계수, (해시 키 전략) 키 지문
+     *
+     * @param perFactor {@link #perFactor(CachePolicy)} 또는 {@link #NO_EARLY_REFRESH}
+     */
+    public byte[][] getOrLockArgs(EntryKey key, byte[] token, double perFactor, CachePolicy policy) {
+        // rand == 0이면 계수가 Infinity가 되며, Lua tonumber()는 "Infinity"를 해석하지 못함
+        byte[] factor = Double.toString(Math.min(perFactor, Double.MAX_VALUE)).getBytes(StandardCharsets.US_ASCII);
+        byte[] lockTtl = toBytes(policy.getLockTtlMs());
+
+        return key.hasFingerprint()
+                ? new byte[][]{token, lockTtl, factor, key.fingerprint()}
+                : new byte[][]{token, lockTtl, factor};
+    }
+
+    /**
+     * per_cache_get_all.lua 인자: (해시 키 전략) 키 순서대로 키 지문, 그 외에는 없음
+     */
+    public byte[][] getAllArgs(List<EntryKey> keys, CachePolicy policy) {
+        if (!policy.isHashedKeys()) {
+            return NO_ARGS;
+        }
+
+        byte[][] args = new byte[keys.size()][];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = keys.get(i).fingerprint();
+        }
+        return args;
+    }
+
+    /**
+     * unlock.lua 인자: 락 토큰, 적재 알림 채널
+     */
+    public byte[][] unlockArgs(byte[] token, String fillChannel) {
+        return new byte[][]{token, fillChannel.getBytes(StandardCharsets.UTF_8)};
+    }
+
+    /**
+     * 조회 요청마다 호출하여 키별 접근 빈도를 기록합니다. (적응형 TTL, 저장 입장 판단용)
+     */
+    public void recordAccess(String key, CachePolicy policy) {
+        adaptiveTtlPolicy.recordAccess(key, policy);
+        cacheAdmissionPolicy.recordAccess(key, policy);
+    }
+
+    /**
+     * 재계산한 값을 저장할지 여부. 저장하지 않는 경우에도 락은 반납해야 합니다.
+     */
+    public boolean admit(String key, long computationTime, CachePolicy policy) {
+        return cacheAdmissionPolicy.admit(key, computationTime, policy);
+    }
+
+    /**
+     * 새로 저장할 값의 논리 TTL. 캐시 정책의 적응형 TTL이 꺼져 있다면 {@code defaultTtl}입니다.
+     */
+    public long logicalTtl(String key, long computationTime, CachePolicy policy) {
+        return adaptiveTtlPolicy.ttlFor(key, computationTime, policy);
+    }
+
+    /**
+     * per_cache_set_and_unlock.lua 인자: 값, delta, 물리 TTL, 키 TTL(delta/version 유지), 논리 TTL, 락 토큰, 적재 알림 채널,
+     * (해시 키 전략) 키 지문
+     * (값은 Codec 결과 그대로, 숫자는 ASCII 문자열로 전달)
+     */
+    public byte[][] writeArgs(EntryKey key, byte[] encodedValue, long computationTime, long logicalTtl, byte[] token,
+                              String fillChannel, CachePolicy policy) {
+        long physicalTtl = policy.isStaleEnabled()
+                ? logicalTtl + policy.getStaleTtlMs()
+                : logicalTtl;
+
+        byte[][] args = new byte[key.hasFingerprint() ? 8 : 7][];
+        args[0] = encodedValue;
+        args[1] = toBytes(computationTime);
+        args[2] = toBytes(physicalTtl);
+        args[3] = toBytes(physicalTtl + policy.getDeltaRetentionMs());
+        args[4] = toBytes(logicalTtl);
+        args[5] = token;
+        args[6] = fillChannel.getBytes(StandardCharsets.UTF_8);
+        if (key.hasFingerprint()) {
+            args[7] = key.fingerprint();
+        }
+        return args;
+    }
+
+    /**
+     * per_cache_get_or_lock.lua / per_cache_get_all.lua 결과 변환:
+     * {{값, delta, version}, {값 필드 PTTL, 논리 TTL, 락 획득 여부(get_or_lock만)}}
+     * <p>
+     * 최상위 요소에는 nil이 오지 않도록 구성되어 있어, 리액티브 실행기가 응답을 요소 단위로 풀어서
+     * 내보내더라도 같은 형태로 처리할 수 있습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public CacheResult<byte[]> toCacheResult(List<Object> result) {
+        if (result == null || result.size() < 2) {
+            return MISS;
+        }
+
+        List<Object> valueList = (List<Object>) result.getFirst();
+        List<Object> ttlList = (List<Object>) result.get(1);
+        if (valueList == null || valueList.size() < 3 || ttlList == null || ttlList.isEmpty()) {
+            return MISS;
+        }
+
+        byte[] cachedData = (byte[]) valueList.getFirst();
+        Integer delta = parseInt((byte[]) valueList.get(1));
+        Long version = parseLong((byte[]) valueList.get(2));
+        Long remainingTtl = (Long) ttlList.getFirst();
+        Long logicalTtl = ttlList.size() > 1 ? (Long) ttlList.get(1) : null;
+        boolean lockAcquired = ttlList.size() > 2 && Long.valueOf(1L).equals(ttlList.get(2));
+        boolean lockWanted = ttlList.size() > 3 && Long.valueOf(1L).equals(ttlList.get(3));
+
+        return new CacheResult<>(cachedData, delta, version, remainingTtl, logicalTtl, cachedData != null,
+                lockAcquired, lockWanted);
+    }
+
+    /**
+     * 논리 만료(stale-while-revalidate) 또는 PER 조기 갱신 대상인지 판단합니다.
+     * per_cache_get_or_lock.lua의 락 시도 조건과 같습니다.
+     */
+    public boolean needsRefresh(CacheResult<byte[]> cacheResult, double perFactor, CachePolicy policy) {
+
+        if (!cacheResult.isCacheHit() || cacheResult.getData() == null) {
+            return true;
+        }
+
+        if (policy.isStaleEnabled() && cacheResult.isStale()) {
+            return true;
+        }
+
+        return shouldRecompute(cacheResult.getDelta(), cacheResult.getFreshTtl(), perFactor);
+    }
+
+    public boolean shouldRecompute(Integer delta, Long remainingTtl, CachePolicy policy) {
+        return shouldRecompute(delta, remainingTtl, perFactor(policy));
+    }
+
+    private boolean shouldRecompute(Integer delta, Long remainingTtl, double perFactor) {
+        if (delta == null || remainingTtl == null) {
+            return true;
+        }
+
+        return remainingTtl <= delta * perFactor; // PER Algorithm
+    }
+
+    /**
+     * PER 계수 {@code beta * -ln(rand)}. delta를 곱하면 조기 갱신 임계값이 됩니다.
+     * Lua 스크립트에서 같은 판단을 할 수 있도록 계수만 따로 계산합니다.
+     */
+    public double perFactor(CachePolicy policy) {
+        double randomValue = ThreadLocalRandom.current().nextDouble(); // 0~1 사이
+        double logRandom = Math.log(randomValue); // 항상 음수값
+        return policy.getBeta() * (-logRandom);
+    }
+
+    /**
+     * 팔로워 대기 시간: 관측된 재계산 시간(delta)에 비례하되,
+     * 리더가 락을 보유할 수 있는 최대 시간(lock TTL)을 넘지 않습니다.
+     */
+    public long followerWaitTimeout(Integer observedDelta, CachePolicy policy) {
+        long lockTtl = policy.getLockTtlMs();
+        if (observedDelta == null) {
+            return lockTtl;
+        }
+
+        long expected = (long) (observedDelta * policy.getWaitDeltaMultiplier());
+        return Math.min(lockTtl, Math.max(policy.getBaseBackoffMs(), expected));
+    }
+
+    public <T> T deserializeData(byte[] cachedData, Class<T> clazz, CachePolicy policy) {
+        long start = System.nanoTime();
+        T value = policy.getCodec().decode(cachedData, clazz);
+        perCacheMetrics.of(policy).recordDeserialize(System.nanoTime() - start);
+        return value;
+    }
+
+    public <T> byte[] serializeValue(T value, CachePolicy policy) {
+        long start = System.nanoTime();
+        byte[] encoded = policy.getCodec().encode(value);
+        perCacheMetrics.of(policy).recordSerialize(System.nanoTime() - start);
+        return encoded;
+    }
+
+    private static byte[] toBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Integer parseInt(byte[] value) {
+        return value == null ? null : Integer.valueOf(new String(value, StandardCharsets.US_ASCII));
+    }
+
+    private static Long parseLong(byte[] value) {
+        return value == null ? null : Long.valueOf(new String(value, StandardCharsets.US_ASCII));
+    }
+}
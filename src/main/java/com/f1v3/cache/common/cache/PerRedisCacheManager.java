@@ -3,217 +3,645 @@ package com.f1v3.cache.common.cache;
 import com.f1v3.cache.common.cache.config.PerCacheProperties;
 import com.f1v3.cache.common.cache.dto.CacheResult;
 import com.f1v3.cache.common.cache.exception.CacheException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.f1v3.cache.common.cache.key.EntryKey;
+import com.f1v3.cache.common.cache.local.LocalSingleFlight;
+import com.f1v3.cache.common.cache.local.NearCache;
+import com.f1v3.cache.common.cache.local.NearCacheEntry;
+import com.f1v3.cache.common.cache.local.NearCacheInvalidator;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics.Script;
+import com.f1v3.cache.common.cache.notify.CacheFillNotifier;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.f1v3.cache.common.cache.refresh.CacheRefreshExecutor;
+import com.f1v3.cache.common.cache.script.CacheScriptExecutor;
+import com.f1v3.cache.common.cache.stats.PerCacheStats;
+import io.lettuce.core.cluster.SlotHash;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static java.time.Duration.ofMillis;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PerRedisCacheManager {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final DefaultRedisScript<List> cacheGetRedisScript;
-    private final DefaultRedisScript<String> cacheSetRedisScript;
+    private final CacheScriptExecutor cacheScriptExecutor;
+    private final DefaultRedisScript<List> cacheGetOrLockRedisScript;
+    private final DefaultRedisScript<List> cacheGetAllRedisScript;
+    private final DefaultRedisScript<Long> cacheSetAndUnlockRedisScript;
+    private final DefaultRedisScript<Long> lockScript;
     private final DefaultRedisScript<Long> unlockScript;
-    private final ObjectMapper objectMapper;
     private final PerCacheProperties cacheProperties;
-
-    private static final ThreadLocalRandom RANDOM = ThreadLocalRandom.current();
+    private final PerCacheSupport cacheSupport;
+    private final CachePolicyRegistry cachePolicyRegistry;
+    private final NearCache nearCache;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final LocalSingleFlight localSingleFlight;
+    private final CacheFillNotifier cacheFillNotifier;
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+    private final PerCacheStats cacheStats;
+    private final PerCacheMetrics perCacheMetrics;
+
+    private final ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     public <T> T get(String key, Class<T> clazz, Supplier<T> recomputer) {
+        return get(cachePolicyRegistry.defaultPolicy(), key, clazz, recomputer);
+    }
+
+    /**
+     * 이름 있는 캐시({@code cache.per.caches.<cacheName>}) 조회. 키는 {@code <cacheName>:<key>}로 저장됩니다.
+     */
+    public <T> T get(String cacheName, String key, Class<T> clazz, Supplier<T> recomputer) {
+        CachePolicy policy = cachePolicyRegistry.get(cacheName);
+        return get(policy, policy.redisKey(key), clazz, recomputer);
+    }
+
+    private <T> T get(CachePolicy policy, String key, Class<T> clazz, Supplier<T> recomputer) {
         try {
-            CacheResult<String> cacheResult = getCacheData(key);
+            cacheSupport.recordAccess(key, policy);
+
+            // 0. L1 히트: PER 조기 갱신 대상이 아니라면 Redis를 거치지 않음
+            T local = getFromNearCache(policy, key, clazz, recomputer);
+            if (local != null) {
+                return local;
+            }
 
-            // 1. 캐시 미스: Single Flight Pattern을 통해 1개의 요청만 재게산
+            // 같은 JVM에서 진행 중인 미스(리더의 재계산, 팔로워 대기)가 있다면 스크립트 없이 결과를 받음
+            // (결과가 비어 있다면 직접 조회)
+            T joined = localSingleFlight.join(key, clazz);
+            if (joined != null) {
+                return joined;
+            }
+
+            // 1. 복제본 조회: 갱신이 필요 없는 히트라면 마스터를 거치지 않음
+            //    (해시 키 전략의 해시는 L1 미스 이후 한 번만 계산하여 이후 스크립트 호출에 재사용)
+            EntryKey entryKey = policy.entryKey(key);
+            double perFactor = cacheSupport.perFactor(policy);
+            if (cacheProperties.isReplicaReads()) {
+                CacheResult<byte[]> replicaResult = getFromReplica(policy, entryKey);
+                if (!cacheSupport.needsRefresh(replicaResult, perFactor, policy)) {
+                    cacheStats.recordReplicaHit(policy);
+                    cacheStats.recordRedisHit(policy);
+                    return deserializeAndCacheLocally(policy, key, replicaResult, clazz);
+                }
+                cacheStats.recordReplicaFallback(policy);
+            }
+
+            // 마스터: 조회와 락 획득(미스 또는 PER 조기 갱신 대상일 때)을 스크립트 1회로 처리
+            // 복제본과 같은 PER 계수를 사용해 복제본에서 내린 판단을 그대로 이어감
+            byte[] token = cacheSupport.newLockToken();
+            CacheResult<byte[]> cacheResult = getOrLock(policy, entryKey, token, perFactor);
             if (!cacheResult.isCacheHit() || cacheResult.getData() == null) {
-                T recomputed = tryRecomputeSingleFlight(key, recomputer);
-                if (recomputed != null) {
-                    return recomputed;
+                cacheStats.recordRedisMiss(policy);
+            } else {
+                cacheStats.recordRedisHit(policy);
+            }
+            return resolve(policy, entryKey, clazz, recomputer, cacheResult, token);
+        } catch (Exception e) {
+            throw new CacheException("캐시 조회 실패", e);
+        }
+    }
+
+    /**
+     * 조회+락 스크립트 결과 처리. {@code token}은 스크립트에 넘긴 락 토큰입니다.
+     */
+    private <T> T resolve(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer,
+                          CacheResult<byte[]> cacheResult, byte[] token) {
+
+        // 2. 캐시 미스: Single Flight Pattern을 통해 1개의 요청만 재게산
+        //    (락을 얻은 리더의 재계산을 JVM 내부에 등록하여, 이후 같은 JVM의 미스는 스크립트 없이 결과를 메모리에서 받음)
+        if (!cacheResult.isCacheHit() || cacheResult.getData() == null) {
+            if (cacheResult.isLockAcquired()) {
+                return localSingleFlight.lead(key.redisKey(), () -> recomputeWithLock(policy, key, recomputer, token));
+            }
+            return loadOnMiss(policy, key, clazz, recomputer, cacheResult.getDelta());
+        }
+
+        if (cacheResult.isLockAcquired()) {
+            perCacheMetrics.of(policy).earlyRefresh();
+        }
+        return resolveHit(policy, key, clazz, recomputer, cacheResult, cacheResult.isLockAcquired() ? token : null);
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다.
+     * <p>
+     * L1에 없는 키는 스크립트 1회 호출로 값, delta, TTL을 함께 가져오고 키별로 PER를 판단합니다.
+     * 다건 조회 스크립트는 락을 잡지 않으며, 미스가 난 키(단건 조회와 같은 조회+락, 리더 재계산)와 조기 갱신 대상인 키만
+     * {@code batch.maxParallelism} 이내로 병렬 처리하고,
+     * 결과는 요청한 키 순서를 유지합니다.
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz, Function<String, T> recomputer) {
+        return getAll(cachePolicyRegistry.defaultPolicy(), keys, clazz, recomputer);
+    }
+
+    /**
+     * 이름 있는 캐시의 다건 조회. 반환하는 Map의 키는 prefix를 붙이기 전의 키입니다.
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> clazz,
+                                     Function<String, T> recomputer) {
+        CachePolicy policy = cachePolicyRegistry.get(cacheName);
+
+        Map<String, String> keyByRedisKey = new LinkedHashMap<>();
+        for (String key : keys) {
+            keyByRedisKey.put(policy.redisKey(key), key);
+        }
+
+        Map<String, T> values = getAll(policy, keyByRedisKey.keySet(), clazz,
+                redisKey -> recomputer.apply(keyByRedisKey.get(redisKey)));
+
+        Map<String, T> result = new LinkedHashMap<>();
+        values.forEach((redisKey, value) -> result.put(keyByRedisKey.get(redisKey), value));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+    }
+
+    private <T> Map<String, T> getAll(CachePolicy policy, Collection<String> keys, Class<T> clazz,
+                                      Function<String, T> recomputer) {
+        try {
+            Map<String, T> values = new LinkedHashMap<>();
+            List<EntryKey> remoteKeys = new ArrayList<>();
+
+            for (String key : keys) {
+                cacheSupport.recordAccess(key, policy);
+                T local = getFromNearCache(policy, key, clazz, () -> recomputer.apply(key));
+                values.put(key, local); // 순서 유지를 위해 미스도 자리를 먼저 잡아둠
+                if (local == null) {
+                    remoteKeys.add(policy.entryKey(key));
                 }
+            }
 
-                return retryGetFromCacheOrFail(key, clazz);
+            if (remoteKeys.isEmpty()) {
+                return values;
             }
 
-            // 2. 캐시 히트: PER로 조기 갱신 필요 여부 판단
-            if (shouldRecompute(cacheResult)) {
-                T recomputed = tryRecomputeSingleFlight(key, recomputer);
-                if (recomputed != null) {
-                    return recomputed;
+            List<CacheResult<byte[]>> cacheResults = getAllCacheData(policy, remoteKeys);
+            Map<String, Supplier<T>> loads = new LinkedHashMap<>();
+
+            for (int i = 0; i < remoteKeys.size(); i++) {
+                EntryKey key = remoteKeys.get(i);
+                CacheResult<byte[]> cacheResult = cacheResults.get(i);
+                Supplier<T> keyRecomputer = () -> recomputer.apply(key.redisKey());
+
+                if (!cacheResult.isCacheHit() || cacheResult.getData() == null) {
+                    cacheStats.recordRedisMiss(policy);
+                    loads.put(key.redisKey(), () -> loadBatchMiss(policy, key, clazz, keyRecomputer));
+                    continue;
+                }
+
+                cacheStats.recordRedisHit(policy);
+                if (cacheSupport.needsRefresh(cacheResult, cacheSupport.perFactor(policy), policy)) {
+                    loads.put(key.redisKey(), () -> refreshHit(policy, key, clazz, keyRecomputer, cacheResult));
+                    continue;
                 }
+                values.put(key.redisKey(), resolveHit(policy, key, clazz, keyRecomputer, cacheResult, null));
             }
 
-            return deserializeData(cacheResult.getData(), clazz);
+            values.putAll(loadInParallel(loads));
+            return values;
         } catch (Exception e) {
-            throw new CacheException("캐시 조회 실패", e);
+            throw new CacheException("캐시 다건 조회 실패", e);
+        }
+    }
+
+    /**
+     * 다건 조회의 미스: 다건 조회 스크립트는 락을 잡지 않으므로, 단건 조회와 같이 진행 중인 JVM 내부 미스에 먼저 합류한 뒤
+     * 조회+락 스크립트로 락을 시도합니다. 락을 얻은 요청은 리더로 재계산하며 락 획득으로 집계됩니다.
+     * (팔로워 재조회에서 락을 먼저 얻어 락 인계(takeover)로 집계되지 않도록 함)
+     */
+    private <T> T loadBatchMiss(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer) {
+        T joined = localSingleFlight.join(key.redisKey(), clazz);
+        if (joined != null) {
+            return joined;
+        }
+
+        byte[] token = cacheSupport.newLockToken();
+        CacheResult<byte[]> cacheResult = getOrLock(policy, key, token, cacheSupport.perFactor(policy));
+        return resolve(policy, key, clazz, recomputer, cacheResult, token);
+    }
+
+    /**
+     * 캐시 미스 + 락 획득 실패(팔로워): JVM 내부 팔로워를 먼저 합친 뒤, 1개만 리더의 적재 알림을 기다림
+     */
+    private <T> T loadOnMiss(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer,
+                             Integer observedDelta) {
+        T loaded = localSingleFlight.execute(key.redisKey(), clazz,
+                () -> retryGetFromCacheOrFail(policy, key, clazz, recomputer, observedDelta));
+        if (loaded != null) {
+            return loaded;
         }
+
+        // 합류한 리더의 재계산 결과가 비어 있는 경우 (원천이 null을 반환)
+        return retryGetFromCacheOrFail(policy, key, clazz, recomputer, observedDelta);
+    }
+
+    /**
+     * 다건 조회에서 조기 갱신 대상인 히트: 락을 시도한 뒤 단건 조회의 히트와 같이 처리합니다.
+     */
+    private <T> T refreshHit(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer,
+                             CacheResult<byte[]> cacheResult) {
+        byte[] token = acquireLock(policy, key);
+        if (token != null) {
+            perCacheMetrics.of(policy).earlyRefresh();
+        }
+        return resolveHit(policy, key, clazz, recomputer, cacheResult, token);
+    }
+
+    /**
+     * 캐시 히트 처리. {@code token}이 있다면 이 요청이 조기 갱신 락을 가지고 있습니다.
+     */
+    private <T> T resolveHit(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer,
+                             CacheResult<byte[]> cacheResult, byte[] token) {
+
+        // 2. 논리 만료(stale-while-revalidate): 오래된 값을 즉시 반환하고 갱신은 백그라운드에서 수행
+        if (policy.isStaleEnabled() && cacheResult.isStale()) {
+            if (token != null) {
+                refreshInBackground(policy, key, recomputer, token);
+            }
+            return cacheSupport.deserializeData(cacheResult.getData(), clazz, policy);
+        }
+
+        // 3. 캐시 히트 + PER 조기 갱신 락 획득
+        //    (비동기 모드라면 갱신은 백그라운드에 맡기고 현재 값을 즉시 반환,
+        //     동기 모드에서 재계산에 실패하면 현재 값을 그대로 반환)
+        if (token != null) {
+            if (cacheProperties.getRefresh().isAsync()) {
+                refreshInBackground(policy, key, recomputer, token);
+            } else {
+                try {
+                    return recomputeWithLock(policy, key, recomputer, token);
+                } catch (Exception e) {
+                    log.warn("Early recompute failed for key={}", key, e);
+                }
+            }
+        }
+
+        return deserializeAndCacheLocally(policy, key.redisKey(), cacheResult, clazz);
     }
 
-    private <T> T retryGetFromCacheOrFail(String key, Class<T> clazz) {
-        int attempts = cacheProperties.getRetryAttempts();
-        long backoff = cacheProperties.getBaseBackoffMs();
+    /**
+     * 미스와 조기 갱신 대상 키를 {@code batch.maxParallelism} 이내로 병렬 처리합니다.
+     */
+    private <T> Map<String, T> loadInParallel(Map<String, Supplier<T>> loads) throws Exception {
+        Map<String, T> loaded = new LinkedHashMap<>();
+        if (loads.isEmpty()) {
+            return loaded;
+        }
 
-        for (int i = 0; i < attempts; i++) {
-            // Jitter 방식의 Sleep
-            sleep(backoff + RANDOM.nextLong(cacheProperties.getMaxJitterMs()));
-            CacheResult<String> after = getCacheData(key);
+        if (loads.size() == 1) {
+            Map.Entry<String, Supplier<T>> load = loads.entrySet().iterator().next();
+            loaded.put(load.getKey(), load.getValue().get());
+            return loaded;
+        }
+
+        Semaphore permits = new Semaphore(cacheProperties.getBatch().getMaxParallelism());
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Supplier<T>> load : loads.entrySet()) {
+            Supplier<T> loader = load.getValue();
+            futures.put(load.getKey(), batchExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    return loader.get();
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        for (Map.Entry<String, Future<T>> future : futures.entrySet()) {
+            try {
+                loaded.put(future.getKey(), future.getValue().get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * L1 히트에서 조기 갱신이 필요한 경우: 락은 백그라운드 작업에서 시도합니다.
+     */
+    private <T> void refreshInBackground(CachePolicy policy, String key, Supplier<T> recomputer) {
+        if (localSingleFlight.isInFlight(key)) {
+            return;
+        }
+
+        cacheRefreshExecutor.submit(key,
+                () -> tryRecomputeSingleFlight(policy, policy.entryKey(key), recomputer));
+    }
+
+    /**
+     * 이미 락을 획득한 상태에서의 백그라운드 갱신. 작업이 거절(중복, 큐 초과)되면 락을 바로 반납합니다.
+     */
+    private <T> void refreshInBackground(CachePolicy policy, EntryKey key, Supplier<T> recomputer, byte[] token) {
+        boolean submitted = cacheRefreshExecutor.submit(key.redisKey(), () -> {
+            try {
+                recomputeWithLock(policy, key, recomputer, token);
+            } catch (Exception e) {
+                log.warn("Background recompute failed for key={}", key, e);
+            }
+        });
+
+        if (!submitted) {
+            releaseLock(policy, key, token);
+        }
+    }
+
+    /**
+     * 팔로워: 리더의 락 해제 알림을 기다린 뒤 캐시를 다시 조회합니다.
+     * 알림 등록 후 곧바로 한 번 더 조회하여, 등록 이전에 리더가 끝난 경우도 놓치지 않습니다.
+     * 재조회 시점에 리더의 락이 사라졌다면(실패, 락 TTL 만료) 같은 호출에서 락을 넘겨받아 직접 재계산합니다.
+     */
+    private <T> T retryGetFromCacheOrFail(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<T> recomputer,
+                                          Integer observedDelta) {
+        int attempts = policy.getRetryAttempts();
+        long waitTimeout = cacheSupport.followerWaitTimeout(observedDelta, policy);
+
+        for (int i = 0; i <= attempts; i++) {
+            CompletableFuture<Void> released = i < attempts ? cacheFillNotifier.register(key.redisKey()) : null;
+
+            byte[] token = cacheSupport.newLockToken();
+            CacheResult<byte[]> after = getOrLock(policy, key, token, PerCacheSupport.NO_EARLY_REFRESH);
             if (after.isCacheHit() && after.getData() != null) {
-                return deserializeData(after.getData(), clazz);
+                perCacheMetrics.of(policy).followerHit();
+                return deserializeAndCacheLocally(policy, key.redisKey(), after, clazz);
+            }
+            if (after.isLockAcquired()) {
+                perCacheMetrics.of(policy).followerTakeover();
+                return recomputeWithLock(policy, key, recomputer, token);
             }
 
-            // todo: 여기서도 못얻으면?
-            //      어떻게 대응해야할지 생각하기
+            if (released == null) {
+                break;
+            }
+            cacheFillNotifier.await(key.redisKey(), released, waitTimeout);
         }
 
+        perCacheMetrics.of(policy).followerFailure();
         throw new CacheException("캐시 미스 상태에서 동시 갱신 경합으로 값 확보 실패");
     }
 
-    private <T> T tryRecomputeSingleFlight(String key, Supplier<T> recomputer) {
+    /**
+     * 락을 획득한 경우에만 재계산하며, 락 획득 실패 또는 재계산 실패 시 {@code null}을 반환합니다.
+     * 락을 얻기 전에는 JVM 내부 레지스트리에 등록하지 않으므로, 같은 키의 미스가 이 {@code null}에 합류하지 않습니다.
+     */
+    private <T> T tryRecomputeSingleFlight(CachePolicy policy, EntryKey key, Supplier<T> recomputer) {
 
-        long lockTimeout = cacheProperties.getDefaultLockTtlMs();
-        String token = acquireLock(key, lockTimeout);
+        byte[] token = acquireLock(policy, key);
 
         if (token == null) {
             // 팔로워: 절대 원천 호출 금지
-            log.debug("Lock acquisition failed for key={}, timeout={}ms", key, lockTimeout);
+            log.debug("Lock acquisition failed for key={}, timeout={}ms", key, policy.getLockTtlMs());
             return null;
         }
 
+        perCacheMetrics.of(policy).earlyRefresh();
         try {
-            long start = System.currentTimeMillis();
-            T newData = recomputer.get();
-            long computeTime = System.currentTimeMillis() - start;
-
-            put(key, newData, computeTime);
-            return newData;
+            return localSingleFlight.leadRefresh(key.redisKey(),
+                    () -> recomputeWithLock(policy, key, recomputer, token));
         } catch (Exception ex) {
             log.warn("Recompute failed for key={}", key, ex);
             return null;
-        } finally {
-            releaseLock(key, token);
         }
     }
 
-    private String acquireLock(String key, long ttlMillis) {
-        String lockKey = buildLockKey(key);
-        String token = UUID.randomUUID().toString();
-        Boolean ok = redisTemplate.opsForValue().setIfAbsent(lockKey, token, ofMillis(ttlMillis));
+    /**
+     * 리더: 재계산 후 저장과 락 해제, 적재 알림을 스크립트 1회로 처리합니다.
+     * 재계산 또는 저장에 실패하면 락을 반납(+ 알림)한 뒤 예외를 그대로 던집니다.
+     * 저장 입장 정책을 통과하지 못한 값은 저장하지 않고 락만 반납합니다.
+     */
+    private <T> T recomputeWithLock(CachePolicy policy, EntryKey key, Supplier<T> recomputer, byte[] token) {
+        try {
+            long start = System.nanoTime();
+            T newData = recomputer.get();
+            long elapsed = System.nanoTime() - start;
+            long computeTime = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            perCacheMetrics.of(policy).recordRecompute(elapsed);
+
+            if (!cacheSupport.admit(key.redisKey(), computeTime, policy)) {
+                cacheStats.recordAdmissionReject(policy);
+                releaseLock(policy, key, token);
+                return newData;
+            }
+
+            long ttl = cacheSupport.logicalTtl(key.redisKey(), computeTime, policy);
+            byte[] encodedValue = cacheSupport.serializeValue(newData, policy);
+            if (policy.exceedsMaxValueBytes(encodedValue.length)) {
+                log.debug("Skip caching oversized value for key={}, size={}B", key, encodedValue.length);
+                releaseLock(policy, key, token);
+                return newData;
+            }
+
+            int weight = putAndUnlock(policy, key, encodedValue, computeTime, ttl, token);
+            nearCache.put(key.redisKey(), newData, (int) computeTime, ttl, weight, policy.getLocalMaxTtlMs());
+            nearCacheInvalidator.publish(key.redisKey());
+            return newData;
+        } catch (RuntimeException ex) {
+            releaseLock(policy, key, token);
+            throw ex;
+        }
+    }
 
-        return Boolean.TRUE.equals(ok) ? token : null;
+    private byte[] acquireLock(CachePolicy policy, EntryKey key) {
+        byte[] token = cacheSupport.newLockToken();
+        long start = System.nanoTime();
+        Long ok = cacheScriptExecutor.execute(lockScript, key.scriptKeys(),
+                cacheSupport.lockArgs(token, policy));
+
+        PerCacheMetrics.CacheMeters meters = perCacheMetrics.of(policy);
+        meters.recordScript(Script.LOCK, System.nanoTime() - start);
+        boolean acquired = Long.valueOf(1L).equals(ok);
+        meters.lock(acquired);
+        return acquired ? token : null;
     }
 
-    private void releaseLock(String key, String token) {
+    private void releaseLock(CachePolicy policy, EntryKey key, byte[] token) {
         try {
-            redisTemplate.execute(
+            long start = System.nanoTime();
+            cacheScriptExecutor.execute(
                     unlockScript,
-                    List.of(buildLockKey(key)),
-                    token
+                    key.scriptKeys(),
+                    cacheSupport.unlockArgs(token, cacheFillNotifier.channelFor(key.redisKey()))
             );
+            perCacheMetrics.of(policy).recordScript(Script.UNLOCK, System.nanoTime() - start);
 
         } catch (Exception e) {
             log.warn("Failed to release lock for key={}, err={}", key, e.toString());
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private CacheResult<String> getCacheData(String key) {
-        List<Object> result = redisTemplate.execute(
-                cacheGetRedisScript,
-                List.of(key, getDeltaKey(key))
-        );
-
-        if (result.size() < 2) {
-            return new CacheResult<>(null, null, null, false);
+    /**
+     * L1 캐시를 조회합니다.
+     * 엔트리가 없다면 {@code null}을 반환해 Redis 조회로 넘어갑니다.
+     * PER 조기 갱신 대상이라면 비동기 모드에서는 갱신만 등록하고 L1 값을 반환하며,
+     * 동기 모드에서는 Redis 조회로 넘어갑니다.
+     * L1 값은 여러 요청이 같은 인스턴스를 공유하므로 호출 측에서 수정해서는 안 됩니다.
+     */
+    private <T> T getFromNearCache(CachePolicy policy, String key, Class<T> clazz, Supplier<T> recomputer) {
+        if (!nearCache.isEnabled()) {
+            return null;
         }
 
-        List<Object> valueList = (List<Object>) result.getFirst();
-        if (valueList == null || valueList.size() < 2) {
-            return new CacheResult<>(null, null, null, false);
+        NearCacheEntry entry = nearCache.get(key);
+        if (entry == null || !clazz.isInstance(entry.value())) {
+            cacheStats.recordLocalMiss(policy);
+            return null;
         }
 
-        String cachedData = (String) valueList.getFirst();
-        Integer delta = (Integer) valueList.get(1);
-        Long remainingTtl = (Long) result.get(1);
+        if (cacheSupport.shouldRecompute(entry.delta(), entry.remainingTtl(System.currentTimeMillis()), policy)) {
+            if (!cacheProperties.getRefresh().isAsync()) {
+                cacheStats.recordLocalMiss(policy);
+                return null;
+            }
+            refreshInBackground(policy, key, recomputer);
+        }
 
-        return new CacheResult<>(cachedData, delta, remainingTtl, cachedData != null);
+        cacheStats.recordLocalHit(policy);
+        return clazz.cast(entry.value());
     }
 
-    private <T> T deserializeData(String cachedData, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(cachedData, clazz);
-        } catch (JsonProcessingException e) {
-            throw new CacheException("캐시 데이터 역직렬화 실패", e);
+    private <T> T deserializeAndCacheLocally(CachePolicy policy, String key, CacheResult<byte[]> cacheResult,
+                                             Class<T> clazz) {
+        T data = cacheSupport.deserializeData(cacheResult.getData(), clazz, policy);
+
+        // stale 구간에서는 L1에 적재하지 않음
+        Long freshTtl = cacheResult.getFreshTtl();
+        if (freshTtl != null && freshTtl > 0) {
+            nearCache.put(key, data, cacheResult.getDelta(), freshTtl, cacheResult.getData().length,
+                    policy.getLocalMaxTtlMs());
         }
+        return data;
     }
 
-    private <T> void put(String key, T value, long computationTime) {
-        try {
-            String deltaKey = getDeltaKey(key);
-            String serializedValue = serializeValue(value);
-
-            redisTemplate.execute(
-                    cacheSetRedisScript,
-                    List.of(key, deltaKey),
-                    serializedValue,
-                    computationTime,
-                    cacheProperties.getDefaultTtl()
-            );
+    /**
+     * @param perFactor {@link PerCacheSupport#NO_EARLY_REFRESH}라면 미스일 때만 락을 시도 (팔로워 재조회)
+     */
+    @SuppressWarnings("unchecked")
+    private CacheResult<byte[]> getOrLock(CachePolicy policy, EntryKey key, byte[] token, double perFactor) {
+        long start = System.nanoTime();
+        List<Object> result = cacheScriptExecutor.execute(
+                cacheGetOrLockRedisScript,
+                key.scriptKeys(),
+                cacheSupport.getOrLockArgs(key, token, perFactor, policy)
+        );
+        return recordGetOrLock(policy, cacheSupport.toCacheResult(result), System.nanoTime() - start);
+    }
 
-        } catch (Exception e) {
-            throw new CacheException("캐시 저장 실패", e);
+    /**
+     * 락을 시도한 호출(미스, PER 조기 갱신, 팔로워 재조회)만 락 경합 결과로 집계합니다.
+     */
+    private CacheResult<byte[]> recordGetOrLock(CachePolicy policy, CacheResult<byte[]> cacheResult, long elapsed) {
+        PerCacheMetrics.CacheMeters meters = perCacheMetrics.of(policy);
+        meters.recordScript(Script.GET_OR_LOCK, elapsed);
+        if (cacheResult.isLockWanted()) {
+            meters.lock(cacheResult.isLockAcquired());
         }
+        return cacheResult;
+    }
+
+    /**
+     * 읽기 전용 조회(EVALSHA_RO)로 복제본에서 읽습니다. 다건 조회 스크립트를 키 1개로 사용합니다.
+     */
+    private CacheResult<byte[]> getFromReplica(CachePolicy policy, EntryKey key) {
+        return getAllCacheData(policy, List.of(key)).getFirst();
     }
 
-    private boolean shouldRecompute(CacheResult<String> cacheResult) {
+    /**
+     * 클러스터 모드에서는 여러 키를 한 스크립트로 조회할 수 없으므로(CROSSSLOT) 슬롯별로 묶어 동시에 호출한 뒤
+     * 요청한 키 순서대로 다시 맞춥니다. 스크립트 지연은 슬롯별 호출을 모두 기다린 시간으로 기록합니다.
+     */
+    private List<CacheResult<byte[]>> getAllCacheData(CachePolicy policy, List<EntryKey> keys) {
+        long start = System.nanoTime();
+        List<CacheResult<byte[]>> cacheResults = getAllCacheData(
+                cacheSupport.scriptKeys(keys), cacheSupport.getAllArgs(keys, policy));
+        perCacheMetrics.of(policy).recordScript(Script.GET_ALL, System.nanoTime() - start);
+        return cacheResults;
+    }
 
-        if (!cacheResult.isCacheHit() ||
-                cacheResult.getData() == null ||
-                cacheResult.getDelta() == null ||
-                cacheResult.getRemainingTtl() == null) {
-            return true;
+    /**
+     * @param args 해시 키 전략이라면 {@code keys}와 같은 순서의 키 지문, 그 외에는 빈 배열
+     */
+    @SuppressWarnings("unchecked")
+    private List<CacheResult<byte[]>> getAllCacheData(List<String> keys, byte[][] args) {
+        if (!cacheScriptExecutor.isCluster() || keys.size() == 1) {
+            return toCacheResults(keys.size(), cacheProperties.isReplicaReads()
+                    ? cacheScriptExecutor.executeReadOnly(cacheGetAllRedisScript, keys, args)
+                    : cacheScriptExecutor.execute(cacheGetAllRedisScript, keys, args));
         }
 
-        double randomValue = RANDOM.nextDouble(); // 0~1 사이
-        double logRandom = Math.log(randomValue); // 항상 음수값
-        double threshold = cacheResult.getDelta() * cacheProperties.getBeta() * (-logRandom); // PER Algorithm
-
-        Long remainingTtl = cacheResult.getRemainingTtl();
-        return remainingTtl <= threshold;
-    }
+        Map<Integer, List<Integer>> indexesBySlot = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            indexesBySlot.computeIfAbsent(SlotHash.getSlot(keys.get(i)), slot -> new ArrayList<>()).add(i);
+        }
 
-    private <T> String serializeValue(T value) {
-        try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            throw new CacheException("데이터 직렬화 실패", e);
+        Map<List<Integer>, CompletableFuture<List>> futures = new LinkedHashMap<>();
+        for (List<Integer> indexes : indexesBySlot.values()) {
+            List<String> slotKeys = indexes.stream().map(keys::get).toList();
+            byte[][] slotArgs = args.length == 0 ? args : indexes.stream().map(i -> args[i]).toArray(byte[][]::new);
+            futures.put(indexes, cacheProperties.isReplicaReads()
+                    ? cacheScriptExecutor.executeReadOnlyAsync(cacheGetAllRedisScript, slotKeys, slotArgs)
+                    : cacheScriptExecutor.executeAsync(cacheGetAllRedisScript, slotKeys, slotArgs));
         }
-    }
 
-    private String getDeltaKey(String key) {
-        return key + cacheProperties.getDeltaKeySuffix();
+        CacheResult<byte[]>[] cacheResults = new CacheResult[keys.size()];
+        futures.forEach((indexes, future) -> {
+            List<CacheResult<byte[]>> slotResults = toCacheResults(indexes.size(), cacheScriptExecutor.await(future));
+            for (int i = 0; i < indexes.size(); i++) {
+                cacheResults[indexes.get(i)] = slotResults.get(i);
+            }
+        });
+        return Arrays.asList(cacheResults);
     }
 
-    private String buildLockKey(String key) {
-        return key + ":lock";
+    @SuppressWarnings("unchecked")
+    private List<CacheResult<byte[]>> toCacheResults(int size, List<Object> results) {
+        List<CacheResult<byte[]>> cacheResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<Object> result = results != null && i < results.size() ? (List<Object>) results.get(i) : null;
+            cacheResults.add(cacheSupport.toCacheResult(result));
+        }
+        return cacheResults;
     }
 
-
-    private void sleep(long ms) {
+    private int putAndUnlock(CachePolicy policy, EntryKey key, byte[] encodedValue, long computationTime, long ttl,
+                             byte[] token) {
         try {
-            Thread.sleep(ms);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+            long start = System.nanoTime();
+            cacheScriptExecutor.execute(
+                    cacheSetAndUnlockRedisScript,
+                    key.scriptKeys(),
+                    cacheSupport.writeArgs(key, encodedValue, computationTime, ttl, token,
+                            cacheFillNotifier.channelFor(key.redisKey()), policy)
+            );
+            perCacheMetrics.of(policy).recordScript(Script.SET_AND_UNLOCK, System.nanoTime() - start);
+
+            return encodedValue.length;
+        } catch (Exception e) {
+            throw new CacheException("캐시 저장 실패", e);
         }
     }
 }
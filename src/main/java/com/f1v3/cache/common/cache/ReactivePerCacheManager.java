@@ -0,0 +1,420 @@
+package com.f1v3.cache.common.cache;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.dto.CacheResult;
+import com.f1v3.cache.common.cache.exception.CacheException;
+import com.f1v3.cache.common.cache.key.EntryKey;
+import com.f1v3.cache.common.cache.local.LocalSingleFlight;
+import com.f1v3.cache.common.cache.local.NearCache;
+import com.f1v3.cache.common.cache.local.NearCacheEntry;
+import com.f1v3.cache.common.cache.local.NearCacheInvalidator;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics.Script;
+import com.f1v3.cache.common.cache.notify.CacheFillNotifier;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.f1v3.cache.common.cache.refresh.CacheRefreshExecutor;
+import com.f1v3.cache.common.cache.script.CacheScriptExecutor;
+import com.f1v3.cache.common.cache.stats.PerCacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link PerRedisCacheManager}의 Non-Blocking 버전.
+ * <p>
+ * {@link ReactiveRedisTemplate}(Lettuce Reactive API) 위에서 동일한 PER, Single Flight, 팔로워 재조회 규칙을 따르며,
+ * 저장 형식과 L1 캐시, JVM 내부 Single Flight 레지스트리를 동기 매니저와 공유합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactivePerCacheManager {
+
+    private final CacheScriptExecutor cacheScriptExecutor;
+    private final DefaultRedisScript<List> cacheGetOrLockRedisScript;
+    private final DefaultRedisScript<List> cacheGetAllRedisScript;
+    private final DefaultRedisScript<Long> cacheSetAndUnlockRedisScript;
+    private final DefaultRedisScript<Long> lockScript;
+    private final DefaultRedisScript<Long> unlockScript;
+    private final PerCacheProperties cacheProperties;
+    private final PerCacheSupport cacheSupport;
+    private final CachePolicyRegistry cachePolicyRegistry;
+    private final NearCache nearCache;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final LocalSingleFlight localSingleFlight;
+    private final CacheFillNotifier cacheFillNotifier;
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+    private final PerCacheStats cacheStats;
+    private final PerCacheMetrics perCacheMetrics;
+
+    public <T> Mono<T> get(String key, Class<T> clazz, Supplier<Mono<T>> recomputer) {
+        return get(cachePolicyRegistry.defaultPolicy(), key, clazz, recomputer);
+    }
+
+    /**
+     * 이름 있는 캐시({@code cache.per.caches.<cacheName>}) 조회. 키는 {@code <cacheName>:<key>}로 저장됩니다.
+     */
+    public <T> Mono<T> get(String cacheName, String key, Class<T> clazz, Supplier<Mono<T>> recomputer) {
+        return Mono.defer(() -> {
+            CachePolicy policy = cachePolicyRegistry.get(cacheName);
+            return get(policy, policy.redisKey(key), clazz, recomputer);
+        });
+    }
+
+    private <T> Mono<T> get(CachePolicy policy, String key, Class<T> clazz, Supplier<Mono<T>> recomputer) {
+        return Mono.defer(() -> {
+                    cacheSupport.recordAccess(key, policy);
+
+                    // 0. L1 히트: PER 조기 갱신 대상이 아니라면 Redis를 거치지 않음
+                    T local = getFromNearCache(policy, key, clazz, recomputer);
+                    if (local != null) {
+                        return Mono.just(local);
+                    }
+
+                    // 같은 JVM에서 진행 중인 미스(리더의 재계산, 팔로워 대기)가 있다면 스크립트 없이 결과를 받음
+                    // (결과가 비어 있다면 직접 조회)
+                    CompletableFuture<T> inFlightMiss = localSingleFlight.joinAsync(key, clazz);
+                    if (inFlightMiss != null) {
+                        return Mono.fromFuture(inFlightMiss)
+                                .switchIfEmpty(Mono.defer(() -> getFromRedis(policy, key, clazz, recomputer)));
+                    }
+                    return getFromRedis(policy, key, clazz, recomputer);
+                })
+                .onErrorMap(e -> !(e instanceof CacheException), e -> new CacheException("캐시 조회 실패", e));
+    }
+
+    private <T> Mono<T> getFromRedis(CachePolicy policy, String key, Class<T> clazz, Supplier<Mono<T>> recomputer) {
+        // 해시 키 전략의 해시는 L1 미스 이후 한 번만 계산하여 이후 스크립트 호출에 재사용
+        EntryKey entryKey = policy.entryKey(key);
+        double perFactor = cacheSupport.perFactor(policy);
+        if (!cacheProperties.isReplicaReads()) {
+            return getFromMaster(policy, entryKey, clazz, recomputer, perFactor);
+        }
+
+        // 1. 복제본(EVALSHA_RO): 갱신 대상이 아닌 히트만 그대로 사용
+        return getFromReplica(policy, entryKey).flatMap(replicaResult -> {
+            if (!cacheSupport.needsRefresh(replicaResult, perFactor, policy)) {
+                cacheStats.recordReplicaHit(policy);
+                cacheStats.recordRedisHit(policy);
+                return Mono.fromSupplier(() -> deserializeAndCacheLocally(policy, key, replicaResult, clazz));
+            }
+            cacheStats.recordReplicaFallback(policy);
+            return getFromMaster(policy, entryKey, clazz, recomputer, perFactor);
+        });
+    }
+
+    /**
+     * 마스터: 조회와 락 획득(미스 또는 PER 조기 갱신 대상일 때)을 스크립트 1회로 처리.
+     * 복제본과 같은 PER 계수를 사용해 복제본에서 내린 판단을 그대로 이어갑니다.
+     */
+    private <T> Mono<T> getFromMaster(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<Mono<T>> recomputer,
+                                      double perFactor) {
+        byte[] token = cacheSupport.newLockToken();
+        return getOrLock(policy, key, token, perFactor)
+                .flatMap(cacheResult -> resolve(policy, key, clazz, recomputer, cacheResult, token));
+    }
+
+    private <T> Mono<T> resolve(CachePolicy policy, EntryKey key, Class<T> clazz, Supplier<Mono<T>> recomputer,
+                                CacheResult<byte[]> cacheResult, byte[] token) {
+
+        // 1. 캐시 미스: 락을 얻은 요청이 리더, 나머지는 JVM 내부에서 합친 뒤 1개만 적재 알림을 기다림
+        if (!cacheResult.isCacheHit() || cacheResult.getData() == null) {
+            cacheStats.recordRedisMiss(policy);
+            if (cacheResult.isLockAcquired()) {
+                return lead(key.redisKey(), () -> recomputeWithLock(policy, key, recomputer, token));
+            }
+
+            // 합류한 리더의 재계산 결과가 비어 있다면 직접 팔로워 재조회
+            Integer observedDelta = cacheResult.getDelta();
+            return coalesce(key.redisKey(), clazz,
+                    () -> retryGetFromCacheOrFail(policy, key, clazz, recomputer, observedDelta, 0))
+                    .switchIfEmpty(Mono.defer(
+                            () -> retryGetFromCacheOrFail(policy, key, clazz, recomputer, observedDelta, 0)));
+        }
+
+        cacheStats.recordRedisHit(policy);
+        if (cacheResult.isLockAcquired()) {
+            perCacheMetrics.of(policy).earlyRefresh();
+        }
+
+        // 2. 논리 만료(stale-while-revalidate): 오래된 값을 즉시 반환하고 갱신은 백그라운드에서 수행
+        if (policy.isStaleEnabled() && cacheResult.isStale()) {
+            if (cacheResult.isLockAcquired()) {
+                refreshInBackground(policy, key, recomputer, token);
+            }
+            return Mono.just(cacheSupport.deserializeData(cacheResult.getData(), clazz, policy));
+        }
+
+        // 3. 캐시 히트 + PER 조기 갱신 락 획득
+        if (cacheResult.isLockAcquired()) {
+            if (cacheProperties.getRefresh().isAsync()) {
+                refreshInBackground(policy, key, recomputer, token);
+            } else {
+                return recomputeWithLock(policy, key, recomputer, token)
+                        .onErrorResume(e -> {
+                            log.warn("Early recompute failed for key={}", key, e);
+                            return Mono.empty();
+                        })
+                        .switchIfEmpty(Mono.fromSupplier(
+                                () -> deserializeAndCacheLocally(policy, key.redisKey(), cacheResult, clazz)));
+            }
+        }
+
+        return Mono.fromSupplier(() -> deserializeAndCacheLocally(policy, key.redisKey(), cacheResult, clazz));
+    }
+
+    private <T> Mono<T> coalesce(String key, Class<T> clazz, Supplier<Mono<T>> loader) {
+        return Mono.fromFuture(() -> localSingleFlight.executeAsync(key, clazz, () -> loader.get().toFuture()));
+    }
+
+    /**
+     * 락을 획득한 리더의 재계산을 JVM 내부에 등록하여 같은 JVM의 미스가 결과를 메모리에서 받게 합니다.
+     */
+    private <T> Mono<T> lead(String key, Supplier<Mono<T>> loader) {
+        return Mono.fromFuture(() -> localSingleFlight.leadAsync(key, () -> loader.get().toFuture()));
+    }
+
+    /**
+     * L1 히트에서 조기 갱신이 필요한 경우: 락은 백그라운드 작업에서 시도합니다.
+     */
+    private <T> void refreshInBackground(CachePolicy policy, String key, Supplier<Mono<T>> recomputer) {
+        if (localSingleFlight.isInFlight(key)) {
+            return;
+        }
+
+        // 백그라운드 실행기의 동시 실행 수 제한과 지표를 동기 매니저와 함께 사용
+        cacheRefreshExecutor.submit(key,
+                () -> tryRecomputeSingleFlight(policy, policy.entryKey(key), recomputer).block());
+    }
+
+    /**
+     * 이미 락을 획득한 상태에서의 백그라운드 갱신. 작업이 거절(중복, 큐 초과)되면 락을 바로 반납합니다.
+     */
+    private <T> void refreshInBackground(CachePolicy policy, EntryKey key, Supplier<Mono<T>> recomputer,
+                                         byte[] token) {
+        boolean submitted = cacheRefreshExecutor.submit(key.redisKey(),
+                () -> recomputeWithLock(policy, key, recomputer, token)
+                        .onErrorResume(e -> {
+                            log.warn("Background recompute failed for key={}", key, e);
+                            return Mono.empty();
+                        })
+                        .block());
+
+        if (!submitted) {
+            releaseLock(policy, key, token).subscribe();
+        }
+    }
+
+    /**
+     * 팔로워: 리더의 락 해제 알림을 기다린 뒤 캐시를 다시 조회합니다.
+     * 대기는 스레드를 점유하지 않으며, 재조회 시점에 리더의 락이 사라졌다면 락을 넘겨받아 직접 재계산합니다.
+     */
+    private <T> Mono<T> retryGetFromCacheOrFail(CachePolicy policy, EntryKey key, Class<T> clazz,
+                                                Supplier<Mono<T>> recomputer, Integer observedDelta, int attempt) {
+        int attempts = policy.getRetryAttempts();
+        CompletableFuture<Void> released = attempt < attempts ? cacheFillNotifier.register(key.redisKey()) : null;
+        byte[] token = cacheSupport.newLockToken();
+
+        return getOrLock(policy, key, token, PerCacheSupport.NO_EARLY_REFRESH).flatMap(after -> {
+            if (after.isCacheHit() && after.getData() != null) {
+                perCacheMetrics.of(policy).followerHit();
+                return Mono.fromSupplier(() -> deserializeAndCacheLocally(policy, key.redisKey(), after, clazz));
+            }
+            if (after.isLockAcquired()) {
+                perCacheMetrics.of(policy).followerTakeover();
+                return recomputeWithLock(policy, key, recomputer, token);
+            }
+
+            if (released == null) {
+                perCacheMetrics.of(policy).followerFailure();
+                return Mono.error(new CacheException("캐시 미스 상태에서 동시 갱신 경합으로 값 확보 실패"));
+            }
+
+            long waitTimeout = cacheSupport.followerWaitTimeout(observedDelta, policy);
+            return Mono.fromFuture(cacheFillNotifier.awaitAsync(key.redisKey(), released, waitTimeout))
+                    .then(Mono.defer(() -> retryGetFromCacheOrFail(
+                            policy, key, clazz, recomputer, observedDelta, attempt + 1)));
+        });
+    }
+
+    /**
+     * 락을 획득한 경우에만 재계산하며, 락 획득 실패 또는 재계산 실패 시 빈 Mono를 반환합니다.
+     * 락을 얻기 전에는 JVM 내부 레지스트리에 등록하지 않으므로, 같은 키의 미스가 이 빈 결과에 합류하지 않습니다.
+     */
+    private <T> Mono<T> tryRecomputeSingleFlight(CachePolicy policy, EntryKey key, Supplier<Mono<T>> recomputer) {
+        long lockTimeout = policy.getLockTtlMs();
+        byte[] token = cacheSupport.newLockToken();
+
+        PerCacheMetrics.CacheMeters meters = perCacheMetrics.of(policy);
+
+        return timed(policy, Script.LOCK, cacheScriptExecutor
+                .executeReactive(lockScript, key.scriptKeys(), cacheSupport.lockArgs(token, policy))
+                .next())
+                .flatMap(acquired -> {
+                    meters.lock(acquired == 1L);
+                    if (acquired != 1L) {
+                        // 팔로워: 절대 원천 호출 금지
+                        log.debug("Lock acquisition failed for key={}, timeout={}ms", key, lockTimeout);
+                        return Mono.empty();
+                    }
+
+                    meters.earlyRefresh();
+                    return Mono.fromFuture(() -> localSingleFlight.leadRefreshAsync(key.redisKey(),
+                                    () -> recomputeWithLock(policy, key, recomputer, token).toFuture()))
+                            .onErrorResume(e -> {
+                                log.warn("Recompute failed for key={}", key, e);
+                                return Mono.empty();
+                            });
+                });
+    }
+
+    /**
+     * 리더: 재계산 후 저장과 락 해제, 적재 알림을 스크립트 1회로 처리합니다.
+     * 재계산 실패, 빈 결과, 취소 시에는 락을 반납(+ 알림)하며, 실패는 그대로 전파합니다.
+     * 저장 입장 정책을 통과하지 못한 값은 저장하지 않고 락만 반납합니다.
+     */
+    private <T> Mono<T> recomputeWithLock(CachePolicy policy, EntryKey key, Supplier<Mono<T>> recomputer,
+                                          byte[] token) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return recomputer.get().flatMap(newData -> {
+                        long elapsed = System.nanoTime() - start;
+                        long computeTime = TimeUnit.NANOSECONDS.toMillis(elapsed);
+                        perCacheMetrics.of(policy).recordRecompute(elapsed);
+                        if (!cacheSupport.admit(key.redisKey(), computeTime, policy)) {
+                            cacheStats.recordAdmissionReject(policy);
+                            return releaseLock(policy, key, token).thenReturn(newData);
+                        }
+
+                        long ttl = cacheSupport.logicalTtl(key.redisKey(), computeTime, policy);
+                        byte[] encodedValue = cacheSupport.serializeValue(newData, policy);
+                        if (policy.exceedsMaxValueBytes(encodedValue.length)) {
+                            log.debug("Skip caching oversized value for key={}, size={}B", key, encodedValue.length);
+                            return releaseLock(policy, key, token).thenReturn(newData);
+                        }
+
+                        return putAndUnlock(policy, key, encodedValue, computeTime, ttl, token).map(weight -> {
+                            nearCache.put(key.redisKey(), newData, (int) computeTime, ttl, weight,
+                                    policy.getLocalMaxTtlMs());
+                            nearCacheInvalidator.publish(key.redisKey());
+                            return newData;
+                        });
+                    });
+                })
+                .switchIfEmpty(Mono.defer(() -> releaseLock(policy, key, token).then(Mono.empty())))
+                .onErrorResume(e -> releaseLock(policy, key, token).then(Mono.error(e)))
+                .doOnCancel(() -> releaseLock(policy, key, token).subscribe());
+    }
+
+    private Mono<Void> releaseLock(CachePolicy policy, EntryKey key, byte[] token) {
+        return timed(policy, Script.UNLOCK, cacheScriptExecutor
+                .executeReactive(unlockScript, key.scriptKeys(),
+                        cacheSupport.unlockArgs(token, cacheFillNotifier.channelFor(key.redisKey())))
+                .then())
+                .onErrorResume(e -> {
+                    log.warn("Failed to release lock for key={}, err={}", key, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private <T> T getFromNearCache(CachePolicy policy, String key, Class<T> clazz, Supplier<Mono<T>> recomputer) {
+        if (!nearCache.isEnabled()) {
+            return null;
+        }
+
+        NearCacheEntry entry = nearCache.get(key);
+        if (entry == null || !clazz.isInstance(entry.value())) {
+            cacheStats.recordLocalMiss(policy);
+            return null;
+        }
+
+        if (cacheSupport.shouldRecompute(entry.delta(), entry.remainingTtl(System.currentTimeMillis()), policy)) {
+            if (!cacheProperties.getRefresh().isAsync()) {
+                cacheStats.recordLocalMiss(policy);
+                return null;
+            }
+            refreshInBackground(policy, key, recomputer);
+        }
+
+        cacheStats.recordLocalHit(policy);
+        return clazz.cast(entry.value());
+    }
+
+    private <T> T deserializeAndCacheLocally(CachePolicy policy, String key, CacheResult<byte[]> cacheResult,
+                                             Class<T> clazz) {
+        T data = cacheSupport.deserializeData(cacheResult.getData(), clazz, policy);
+
+        // stale 구간에서는 L1에 적재하지 않음
+        Long freshTtl = cacheResult.getFreshTtl();
+        if (freshTtl != null && freshTtl > 0) {
+            nearCache.put(key, data, cacheResult.getDelta(), freshTtl, cacheResult.getData().length,
+                    policy.getLocalMaxTtlMs());
+        }
+        return data;
+    }
+
+    /**
+     * 리액티브 스크립트 실행기는 MULTI 응답을 요소 단위로 풀어서 내보낼 수 있으므로,
+     * 하나로 묶여 온 경우와 풀려서 온 경우를 모두 처리합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<CacheResult<byte[]>> getOrLock(CachePolicy policy, EntryKey key, byte[] token, double perFactor) {
+        return timed(policy, Script.GET_OR_LOCK, cacheScriptExecutor
+                .executeReactive(cacheGetOrLockRedisScript, key.scriptKeys(),
+                        cacheSupport.getOrLockArgs(key, token, perFactor, policy))
+                .cast(Object.class)
+                .collectList())
+                .map(elements -> elements.size() == 1
+                        ? cacheSupport.toCacheResult((List<Object>) elements.getFirst())
+                        : cacheSupport.toCacheResult(elements))
+                .doOnNext(cacheResult -> {
+                    // 락을 시도한 호출(미스, PER 조기 갱신, 팔로워 재조회)만 락 경합 결과로 집계
+                    if (cacheResult.isLockWanted()) {
+                        perCacheMetrics.of(policy).lock(cacheResult.isLockAcquired());
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<CacheResult<byte[]>> getFromReplica(CachePolicy policy, EntryKey key) {
+        return timed(policy, Script.GET_ALL, Mono.fromFuture(
+                        () -> cacheScriptExecutor.executeReadOnlyAsync(cacheGetAllRedisScript,
+                                key.scriptKeys(), cacheSupport.getAllArgs(List.of(key), policy))))
+                .map(results -> results.isEmpty()
+                        ? cacheSupport.toCacheResult(null)
+                        : cacheSupport.toCacheResult((List<Object>) results.getFirst()))
+                .defaultIfEmpty(cacheSupport.toCacheResult(null));
+    }
+
+    private Mono<Integer> putAndUnlock(CachePolicy policy, EntryKey key, byte[] encodedValue, long computationTime,
+                                       long ttl, byte[] token) {
+        return timed(policy, Script.SET_AND_UNLOCK, Mono.defer(() -> cacheScriptExecutor.executeReactive(
+                                cacheSetAndUnlockRedisScript,
+                                key.scriptKeys(),
+                                cacheSupport.writeArgs(key, encodedValue, computationTime, ttl, token,
+                                        cacheFillNotifier.channelFor(key.redisKey()), policy))
+                        .then(Mono.just(encodedValue.length))))
+                .onErrorMap(e -> !(e instanceof CacheException), e -> new CacheException("캐시 저장 실패", e));
+    }
+
+    /**
+     * 스크립트 호출 지연({@code per.cache.script})을 구독 시점부터 종료(완료, 오류, 취소)까지로 기록합니다.
+     */
+    private <R> Mono<R> timed(CachePolicy policy, Script script, Mono<R> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doFinally(signal -> perCacheMetrics.of(policy).recordScript(script, System.nanoTime() - start));
+        });
+    }
+}
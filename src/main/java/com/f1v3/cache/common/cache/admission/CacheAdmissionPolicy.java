@@ -0,0 +1,41 @@
+package com.f1v3.cache.common.cache.admission;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 저장 여부를 결정하는 TinyLFU 방식 입장(admission) 정책.
+ * <p>
+ * 조회마다 키의 빈도를 {@link FrequencySketch}에 기록해 두고, 재계산한 값은
+ * 추정 빈도가 {@code minFrequency} 이상이거나 재계산이 {@code expensiveRecomputeMs} 이상 걸린 경우에만 저장합니다.
+ * 한 번 조회되고 마는 롱테일 쿼리가 Redis 메모리와 쓰기/복제 트래픽을 차지하지 않도록 하기 위함입니다.
+ * 사용 여부와 기준값은 캐시 정책별로 정하며, 빈도 스케치는 모든 캐시가 함께 사용합니다. (키에 캐시 이름 prefix가 포함됨)
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class CacheAdmissionPolicy {
+
+    private final FrequencySketch sketch;
+
+    public CacheAdmissionPolicy(PerCacheProperties cacheProperties) {
+        PerCacheProperties.Admission admission = cacheProperties.getAdmission();
+
+        boolean enabled = admission.isEnabled() || cacheProperties.getCaches().values().stream()
+                .anyMatch(spec -> Boolean.TRUE.equals(spec.getAdmissionEnabled()));
+        this.sketch = enabled ? new FrequencySketch(admission.getExpectedKeys()) : null;
+    }
+
+    public void recordAccess(String key, CachePolicy policy) {
+        if (policy.isAdmissionEnabled()) {
+            sketch.increment(key);
+        }
+    }
+
+    public boolean admit(String key, long computationTime, CachePolicy policy) {
+        return !policy.isAdmissionEnabled()
+                || computationTime >= policy.getAdmissionExpensiveRecomputeMs()
+                || sketch.frequency(key) >= policy.getAdmissionMinFrequency();
+    }
+}
@@ -0,0 +1,109 @@
+package com.f1v3.cache.common.cache.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 4비트 카운터 기반 Count-Min Sketch (TinyLFU).
+ * <p>
+ * 행(depth) 4개 x 열(width) 카운터를 long 하나에 16개씩 담아 키 1개당 약 2바이트만 사용합니다.
+ * 기록 횟수가 {@code width * 10}에 도달하면 모든 카운터를 절반으로 줄여(aging) 과거 빈도의 영향을 낮춥니다.
+ * 동시 갱신 중 일부 증가가 유실될 수 있지만 빈도 추정에는 영향이 없습니다.
+ * <p>
+ * 행별 위치는 키 문자열 전체로 계산한 64비트 해시에서 뽑으므로, {@link String#hashCode()}가 같은 키끼리도
+ * 모든 행의 카운터를 공유하지 않습니다. (32비트 해시 하나에서 모든 행을 뽑으면 Count-Min의 오차 한계가 성립하지 않음)
+ *
+ * @author Seungjo, Jeong
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+            0x9E37_79B9_7F4A_7C15L, 0xC2B2_AE3D_27D4_EB4FL, 0x1656_67B1_9E37_79F9L, 0x85EB_CA77_C2B2_AE63L
+    };
+
+    private final AtomicLongArray table;
+    private final int widthMask;
+    private final int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+
+    FrequencySketch(long expectedKeys) {
+        int width = Integer.highestOneBit((int) Math.min(1 << 28, Math.max(16, expectedKeys - 1)) << 1);
+        this.widthMask = width - 1;
+        this.table = new AtomicLongArray(DEPTH * width / 16);
+        this.sampleSize = width * 10;
+    }
+
+    void increment(String key) {
+        long hash = hash(key);
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            added |= incrementAt(counterIndex(hash, row));
+        }
+
+        // 정확히 임계값에 도달한 스레드 1개만 aging 수행
+        if (added && size.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(String key) {
+        long hash = hash(key);
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, countAt(counterIndex(hash, row)));
+        }
+        return frequency;
+    }
+
+    private int counterIndex(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        return row * (widthMask + 1) + ((int) h & widthMask);
+    }
+
+    private boolean incrementAt(int counterIndex) {
+        int slot = counterIndex >>> 4;
+        int shift = (counterIndex & 15) << 2;
+        while (true) {
+            long current = table.get(slot);
+            if (((current >>> shift) & 0xF) == MAX_COUNT) {
+                return false;
+            }
+            if (table.compareAndSet(slot, current, current + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    private int countAt(int counterIndex) {
+        return (int) ((table.get(counterIndex >>> 4) >>> ((counterIndex & 15) << 2)) & 0xF);
+    }
+
+    private void reset() {
+        size.set(sampleSize / 2);
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, (table.get(i) >>> 1) & RESET_MASK);
+        }
+    }
+
+    /**
+     * 문자 단위 FNV-1a 64비트 해시 + Murmur3 finalizer. 조회마다 호출되므로 바이트 배열을 만들지 않습니다.
+     */
+    static long hash(String key) {
+        long h = 0xCBF2_9CE4_8422_2325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x0000_0100_0000_01B3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
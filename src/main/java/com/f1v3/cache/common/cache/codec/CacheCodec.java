@@ -0,0 +1,14 @@
+package com.f1v3.cache.common.cache.codec;
+
+/**
+ * 캐시 값 직렬화/역직렬화 규칙.
+ * Redis에는 {@link #encode} 결과가 그대로(raw byte[]) 저장됩니다.
+ *
+ * @author Seungjo, Jeong
+ */
+public interface CacheCodec {
+
+    byte[] encode(Object value);
+
+    <T> T decode(byte[] data, Class<T> clazz);
+}
@@ -0,0 +1,14 @@
+package com.f1v3.cache.common.cache.codec;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+
+/**
+ * Codec 종류별 {@link CacheCodec} 생성기. 압축 등 공통 설정은 생성기가 적용합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@FunctionalInterface
+public interface CacheCodecFactory {
+
+    CacheCodec create(PerCacheProperties.Codec codec);
+}
@@ -0,0 +1,97 @@
+package com.f1v3.cache.common.cache.codec;
+
+import com.f1v3.cache.common.cache.exception.CacheException;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+import java.util.Arrays;
+
+/**
+ * 큰 값만 Zstd로 압축하는 {@link CacheCodec} 데코레이터.
+ * <p>
+ * 압축한 값은 앞에 헤더 바이트({@link #ZSTD}, {@link #ZSTD_DICT})를 붙여 저장하고,
+ * 임계값 미만이거나 압축 이득이 없는 값은 위임 Codec의 결과를 그대로 저장합니다.
+ * Smile(':'), JSON('{', '[', '"') 인코딩 결과는 헤더 바이트 값으로 시작할 수 없으므로
+ * 압축 도입 이전에 저장된 엔트리도 그대로 읽을 수 있습니다.
+ *
+ * @author Seungjo, Jeong
+ */
+public class CompressingCacheCodec implements CacheCodec {
+
+    static final byte ZSTD = 0x01;
+    static final byte ZSTD_DICT = 0x02;
+
+    private final CacheCodec delegate;
+    private final int thresholdBytes;
+    private final int level;
+    private final ZstdDictCompress dictCompress;
+    private final ZstdDictDecompress dictDecompress;
+
+    public CompressingCacheCodec(CacheCodec delegate, int thresholdBytes, int level, byte[] dictionary) {
+        this.delegate = delegate;
+        this.thresholdBytes = thresholdBytes;
+        this.level = level;
+        this.dictCompress = dictionary != null ? new ZstdDictCompress(dictionary, level) : null;
+        this.dictDecompress = dictionary != null ? new ZstdDictDecompress(dictionary) : null;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] raw = delegate.encode(value);
+        if (raw.length < thresholdBytes) {
+            return raw;
+        }
+
+        byte[] out = new byte[1 + (int) Zstd.compressBound(raw.length)];
+        long size;
+        if (dictCompress != null) {
+            out[0] = ZSTD_DICT;
+            size = Zstd.compressFastDict(out, 1, raw, 0, raw.length, dictCompress);
+        } else {
+            out[0] = ZSTD;
+            size = Zstd.compressByteArray(out, 1, out.length - 1, raw, 0, raw.length, level);
+        }
+
+        if (Zstd.isError(size)) {
+            throw new CacheException("캐시 데이터 압축 실패: " + Zstd.getErrorName(size));
+        }
+
+        // 압축 이득이 없으면 원본을 그대로 저장
+        if (size + 1 >= raw.length) {
+            return raw;
+        }
+        return Arrays.copyOf(out, (int) size + 1);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> clazz) {
+        if (data.length == 0 || (data[0] != ZSTD && data[0] != ZSTD_DICT)) {
+            return delegate.decode(data, clazz);
+        }
+        return delegate.decode(decompress(data), clazz);
+    }
+
+    private byte[] decompress(byte[] data) {
+        long originalSize = Zstd.getFrameContentSize(data, 1, data.length - 1);
+        if (originalSize < 0 || originalSize > Integer.MAX_VALUE) {
+            throw new CacheException("압축된 캐시 데이터의 원본 크기를 알 수 없음");
+        }
+
+        byte[] out = new byte[(int) originalSize];
+        long size;
+        if (data[0] == ZSTD_DICT) {
+            if (dictDecompress == null) {
+                throw new CacheException("Zstd 사전 없이 사전 압축된 캐시 데이터를 읽을 수 없음");
+            }
+            size = Zstd.decompressFastDict(out, 0, data, 1, data.length - 1, dictDecompress);
+        } else {
+            size = Zstd.decompressByteArray(out, 0, out.length, data, 1, data.length - 1);
+        }
+
+        if (Zstd.isError(size)) {
+            throw new CacheException("캐시 데이터 압축 해제 실패: " + Zstd.getErrorName(size));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,38 @@
+package com.f1v3.cache.common.cache.codec;
+
+import com.f1v3.cache.common.cache.exception.CacheException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * Jackson 기반 {@link CacheCodec}.
+ * 주입된 {@link ObjectMapper}의 포맷(JSON, Smile 등)으로 직렬화합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@RequiredArgsConstructor
+public class JacksonCacheCodec implements CacheCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new CacheException("데이터 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(data, clazz);
+        } catch (IOException e) {
+            throw new CacheException("캐시 데이터 역직렬화 실패", e);
+        }
+    }
+}
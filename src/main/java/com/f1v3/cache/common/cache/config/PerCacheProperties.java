@@ -3,6 +3,12 @@ package com.f1v3.cache.common.cache.config;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -11,9 +17,169 @@ public class PerCacheProperties {
 
     private double beta = 1.0;
     private long defaultTtl = 3600;
-    private String deltaKeySuffix = ":delta";
     private long defaultLockTtlMs = 600;
-    private long baseBackoffMs = 40;
-    private long maxJitterMs = 20;
+    private long deltaRetentionMs = 60_000;     // 값 필드 만료 이후에도 엔트리(delta, version)를 유지하는 시간 (팔로워 대기 시간 산정용)
+    private long baseBackoffMs = 40;            // 팔로워 최소 대기 시간
+    private double waitDeltaMultiplier = 1.5;   // 팔로워 대기 시간 = delta * multiplier (lock TTL 이하)
     private int retryAttempts = 1;
+    private String fillChannelPrefix = "per-cache:fill:";
+    private boolean replicaReads = true;        // 조회를 복제본(EVALSHA_RO)에서 먼저 수행, 미스/갱신 대상만 마스터로
+    private int maxValueBytes = 0;              // 인코딩 결과가 이보다 크면 저장하지 않음 (0 = 제한 없음)
+    private Codec codec = Codec.SMILE;
+    private KeyStrategy keyStrategy = KeyStrategy.RAW;
+    private Compression compression = new Compression();
+    private Local local = new Local();
+    private Stale stale = new Stale();
+    private Refresh refresh = new Refresh();
+    private Batch batch = new Batch();
+    private AdaptiveTtl adaptiveTtl = new AdaptiveTtl();
+    private Admission admission = new Admission();
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    public enum Codec {
+        SMILE,
+        JSON
+    }
+
+    /**
+     * Redis 키 구성 방식.
+     * {@code HASHED}는 {@code <name>:} 뒤에 원본 키 해시의 앞 64비트(11자)를 사용하고, 뒤 64비트는 지문으로 엔트리의
+     * {@code key} 필드에 저장해 해시 충돌 시 미스로 처리합니다. L1 무효화를 {@code tracking} 모드로 사용한다면 Redis 키와 L1 키가 달라지므로
+     * 해당 캐시에는 {@code RAW}를 사용해야 합니다.
+     */
+    public enum KeyStrategy {
+        RAW,
+        HASHED
+    }
+
+    /**
+     * 값 압축 설정.
+     * 인코딩 결과가 {@code thresholdBytes} 이상일 때만 Zstd로 압축하며,
+     * 압축 여부는 값 앞의 헤더 바이트로 구분하므로 압축/비압축 엔트리가 공존할 수 있습니다.
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+        private boolean enabled = false;
+        private int thresholdBytes = 512;
+        private int level = 3;
+        private Resource dictionary;        // 샘플 응답으로 학습한 Zstd 사전 (선택)
+    }
+
+    /**
+     * 애플리케이션 내부(L1) 캐시 설정.
+     * <p>
+     * 무효화 방식은 자체 Pub/Sub 메시지({@code PUBSUB}) 또는
+     * Redis 서버의 키 변경 알림(RESP3 {@code CLIENT TRACKING}, {@code TRACKING}) 중 하나를 사용합니다.
+     */
+    @Getter
+    @Setter
+    public static class Local {
+        private boolean enabled = false;
+        private long maximumWeight = 64L * 1024 * 1024; // 직렬화된 값의 길이 합계 상한
+        private long maxTtlMs = 1_000;                  // Redis PTTL과 무관하게 로컬에 머무를 수 있는 최대 시간
+        private String invalidationChannel = "per-cache:invalidate";
+        private long invalidationBatchMs = 20;          // 무효화 메시지 발행 주기
+        private int invalidationMaxBatchSize = 500;     // 메시지 1건에 담을 최대 키 개수
+        private InvalidationMode invalidationMode = InvalidationMode.PUBSUB;
+        private List<String> trackingPrefixes = new ArrayList<>();  // BCAST 추적 대상 키 prefix (비어 있으면 전체 키)
+    }
+
+    public enum InvalidationMode {
+        PUBSUB,
+        TRACKING
+    }
+
+    /**
+     * Stale-While-Revalidate 설정.
+     * 활성화 시 물리 TTL은 {@code defaultTtl + ttlMs}가 되며,
+     * 논리 만료 이후 {@code ttlMs} 동안은 오래된 값을 반환하면서 백그라운드에서 갱신합니다.
+     */
+    @Getter
+    @Setter
+    public static class Stale {
+        private boolean enabled = false;
+        private long ttlMs = 30_000;
+    }
+
+    /**
+     * PER 조기 갱신 실행 설정.
+     * {@code async}가 true라면 PER 갱신을 백그라운드 실행기에 맡기고 요청은 현재 값을 즉시 반환합니다.
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+        private boolean async = true;
+        private int threads = 8;            // 동시 갱신 상한
+        private int queueCapacity = 256;    // 초과 시 갱신을 버림(shed)
+    }
+
+    /**
+     * 다건 조회(getAll) 설정.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxParallelism = 4;     // 미스/조기 갱신 대상 키의 락 시도와 재계산 동시 실행 상한
+    }
+
+    /**
+     * 키별 적응형 TTL 설정.
+     * 활성화 시 {@code defaultTtl} 대신 접근 빈도와 재계산 시간(delta)에 따라 {@code minTtlMs ~ maxTtlMs} 범위의 TTL을 사용합니다.
+     * 접근 빈도는 인스턴스별로 측정하므로 {@code hotHitsPerSecond}도 인스턴스 1대 기준입니다.
+     */
+    @Getter
+    @Setter
+    public static class AdaptiveTtl {
+        private boolean enabled = false;
+        private long minTtlMs = 1_000;
+        private long maxTtlMs = 60_000;
+        private double hotHitsPerSecond = 20;       // 이 이상 읽히는 키는 최대 빈도로 간주
+        private long costReferenceMs = 500;         // 이 이상 걸리는 재계산은 최대 비용으로 간주
+        private long maxTrackedKeys = 100_000;      // 접근 카운터를 유지할 최대 키 개수
+    }
+
+    /**
+     * 저장 입장(admission) 설정.
+     * 활성화 시 조회 빈도가 {@code minFrequency} 미만이고 재계산이 {@code expensiveRecomputeMs} 미만으로 끝난 값은
+     * Redis(L2)와 L1에 저장하지 않고 결과만 반환합니다.
+     */
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = false;
+        private int minFrequency = 2;               // 최대 15 (4비트 카운터)
+        private long expensiveRecomputeMs = 300;    // 이 이상 걸린 재계산 결과는 빈도와 무관하게 저장
+        private long expectedKeys = 100_000;        // 빈도 스케치 크기 (키 1개당 약 2바이트)
+    }
+
+    /**
+     * 이름 있는 캐시({@code cache.per.caches.<name>})별 정책.
+     * 지정하지 않은(null) 항목은 {@code cache.per}의 전역 값을 따르며, 키는 {@code <name>:<key>}로 저장됩니다.
+     * 적응형 TTL, 저장 입장, L1 최대 수명도 캐시별로 지정할 수 있으며, 인스턴스 단위 자원(접근 카운터 개수,
+     * 빈도 스케치 크기, L1 용량)과 빈도/비용 기준값({@code hotHitsPerSecond}, {@code costReferenceMs})만 전역 설정을 공유합니다.
+     */
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        private Double beta;
+        private Long defaultTtl;
+        private Long lockTtlMs;
+        private Long deltaRetentionMs;
+        private Integer retryAttempts;
+        private Long baseBackoffMs;
+        private Double waitDeltaMultiplier;
+        private Boolean staleEnabled;
+        private Long staleTtlMs;
+        private Codec codec;
+        private Integer maxValueBytes;
+        private KeyStrategy keyStrategy;
+        private Boolean adaptiveTtlEnabled;
+        private Long adaptiveMinTtlMs;
+        private Long adaptiveMaxTtlMs;
+        private Boolean admissionEnabled;
+        private Integer admissionMinFrequency;
+        private Long admissionExpensiveRecomputeMs;
+        private Long localMaxTtlMs;
+    }
 }
@@ -8,6 +8,22 @@ import lombok.Getter;
 public class CacheResult<T> {
     private final T data;
     private final Integer delta;
-    private final Long remainingTtl;
+    private final Long version;         // 엔트리가 기록될 때마다 1씩 증가
+    private final Long remainingTtl;    // 물리 TTL (PTTL)
+    private final Long logicalTtl;      // 논리 만료까지 남은 시간, 음수라면 stale
     private final boolean cacheHit;
+    private final boolean lockAcquired; // 조회와 같은 스크립트 호출에서 락을 획득했는지 여부
+    private final boolean lockWanted;   // 미스 또는 조기 갱신 대상이라 락을 시도했는지 여부
+
+    /**
+     * 신선도 판단에 사용할 남은 시간.
+     * 논리 만료 정보가 없는 엔트리는 물리 TTL을 그대로 사용합니다.
+     */
+    public Long getFreshTtl() {
+        return logicalTtl != null ? logicalTtl : remainingTtl;
+    }
+
+    public boolean isStale() {
+        return cacheHit && logicalTtl != null && logicalTtl <= 0;
+    }
 }
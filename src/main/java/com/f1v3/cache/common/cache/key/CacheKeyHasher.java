@@ -0,0 +1,145 @@
+package com.f1v3.cache.common.cache.key;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 해시 키 전략({@code key-strategy: hashed})에서 사용하는 고정 길이 키와 지문.
+ * <p>
+ * 키의 UTF-8 바이트를 MurmurHash3 x64 128비트(seed 0)로 한 번만 해시하여, 앞 64비트는 URL-safe Base64(패딩 없음, 11자)
+ * Redis 키로, 뒤 64비트는 엔트리의 {@code key} 필드에 저장하는 8바이트 지문으로 사용합니다.
+ * 키가 충돌하더라도 지문까지 같아야(128비트 전체 일치) 같은 엔트리로 보며, 지문이 다르면 조회 스크립트가 미스로 처리합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+public final class CacheKeyHasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * @param key         Redis 키에 붙이는 해시 (11자)
+     * @param fingerprint 엔트리의 {@code key} 필드에 저장하고 조회 시 비교하는 지문 (8바이트)
+     */
+    public record Digest(String key, byte[] fingerprint) {
+    }
+
+    private CacheKeyHasher() {
+    }
+
+    /**
+     * @param key 해시 키 전략을 사용하는 캐시의 Redis 키 ({@code <name>:<key>})
+     */
+    public static Digest digest(String key) {
+        long[] hash = hash128(key.getBytes(StandardCharsets.UTF_8));
+
+        byte[] keyBytes = new byte[8];
+        putLong(keyBytes, 0, hash[0]);
+        byte[] fingerprint = new byte[8];
+        putLong(fingerprint, 0, hash[1]);
+        return new Digest(ENCODER.encodeToString(keyBytes), fingerprint);
+    }
+
+    /**
+     * MurmurHash3 x64 128비트 {h1, h2}. 바이트 순서는 참조 구현(리틀 엔디언 출력)과 같습니다.
+     */
+    static long[] hash128(byte[] data) {
+        int length = data.length;
+        int blocks = length / 16;
+
+        long h1 = 0;
+        long h2 = 0;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i * 16);
+            long k2 = getLong(data, i * 16 + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // 16바이트 미만의 나머지
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        switch (length & 15) {
+            case 15: k2 ^= (long) (data[tail + 14] & 0xff) << 48;
+            case 14: k2 ^= (long) (data[tail + 13] & 0xff) << 40;
+            case 13: k2 ^= (long) (data[tail + 12] & 0xff) << 32;
+            case 12: k2 ^= (long) (data[tail + 11] & 0xff) << 24;
+            case 11: k2 ^= (long) (data[tail + 10] & 0xff) << 16;
+            case 10: k2 ^= (long) (data[tail + 9] & 0xff) << 8;
+            case 9:  k2 ^= data[tail + 8] & 0xff;
+                     h2 ^= mixK2(k2);
+            case 8:  k1 ^= (long) (data[tail + 7] & 0xff) << 56;
+            case 7:  k1 ^= (long) (data[tail + 6] & 0xff) << 48;
+            case 6:  k1 ^= (long) (data[tail + 5] & 0xff) << 40;
+            case 5:  k1 ^= (long) (data[tail + 4] & 0xff) << 32;
+            case 4:  k1 ^= (long) (data[tail + 3] & 0xff) << 24;
+            case 3:  k1 ^= (long) (data[tail + 2] & 0xff) << 16;
+            case 2:  k1 ^= (long) (data[tail + 1] & 0xff) << 8;
+            case 1:  k1 ^= data[tail] & 0xff;
+                     h1 ^= mixK1(k1);
+            default:
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return new long[]{h1, h2};
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    // 리틀 엔디언
+    private static long getLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static void putLong(byte[] data, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            data[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.f1v3.cache.common.cache.key;
+
+import java.util.List;
+
+/**
+ * 조회 요청 1건이 사용하는 엔트리 키. 요청 시작 시 한 번만 만들어 스크립트 호출마다 재사용합니다.
+ *
+ * @param redisKey    {@code <name>:<key>}. L1, Single Flight, 적재 알림 채널 등 JVM 내부에서 사용
+ * @param storageKey  스크립트에 넘기는 실제 Redis 키 (해시 키 전략이 아니라면 {@code redisKey}와 같음)
+ * @param fingerprint 해시 키 전략의 충돌 검증용 지문, 그 외에는 {@code null}
+ * @author Seungjo, Jeong
+ */
+public record EntryKey(String redisKey, String storageKey, byte[] fingerprint) {
+
+    public static EntryKey raw(String redisKey) {
+        return new EntryKey(redisKey, redisKey, null);
+    }
+
+    public static EntryKey hashed(String keyPrefix, String redisKey) {
+        CacheKeyHasher.Digest digest = CacheKeyHasher.digest(redisKey);
+        return new EntryKey(redisKey, keyPrefix + digest.key(), digest.fingerprint());
+    }
+
+    /**
+     * 스크립트 KEYS. 엔트리 1개 = Redis Hash 1개입니다.
+     */
+    public List<String> scriptKeys() {
+        return List.of(storageKey);
+    }
+
+    public boolean hasFingerprint() {
+        return fingerprint != null;
+    }
+
+    @Override
+    public String toString() {
+        return redisKey;
+    }
+}
@@ -0,0 +1,182 @@
+package com.f1v3.cache.common.cache.local;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JVM 내부 Single Flight 레지스트리.
+ * <p>
+ * 같은 키에 대한 동시 요청 중 하나(리더)만 {@code loader}를 실행하고,
+ * 나머지 요청은 리더의 결과를 메모리에서 바로 전달받습니다.
+ * <p>
+ * 캐시 매니저는 L1 미스 직후 {@link #join}으로 진행 중인 미스(리더의 재계산, 팔로워 대기)에 먼저 합류하므로,
+ * 미스가 진행 중인 동안 같은 JVM의 요청은 조회+락 스크립트를 호출하지 않습니다.
+ * 첫 미스의 스크립트 왕복 1회 사이에 동시에 도착한 요청만 각자 스크립트를 호출하며, 그중 락을 얻지 못한 요청은
+ * {@link #execute}로 합쳐져 팔로워 재조회도 JVM당 1개만 수행합니다.
+ * <p>
+ * PER 조기 갱신({@link #leadRefresh})은 Redis에 아직 값이 있으므로 {@link #join} 대상이 아니며,
+ * 갱신 중에도 히트 요청은 기다리지 않습니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class LocalSingleFlight {
+
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param refresh PER 조기 갱신이라면 {@code true} ({@link #join} 대상에서 제외)
+     */
+    private record Flight(CompletableFuture<Object> result, boolean refresh) {
+    }
+
+    public <T> T execute(String key, Class<T> clazz, Supplier<T> loader) {
+        Flight flight = new Flight(new CompletableFuture<>(), false);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            return clazz.cast(await(existing.result()));
+        }
+
+        return run(key, flight, loader);
+    }
+
+    /**
+     * {@link #execute}의 비동기 버전. 동기 호출과 같은 레지스트리를 공유하므로
+     * 동기/리액티브 요청이 섞여 있어도 키당 리더는 하나입니다.
+     */
+    public <T> CompletableFuture<T> executeAsync(String key, Class<T> clazz, Supplier<CompletableFuture<T>> loader) {
+        Flight flight = new Flight(new CompletableFuture<>(), false);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            return existing.result().thenApply(clazz::cast);
+        }
+
+        try {
+            loader.get().whenComplete((result, error) -> complete(key, flight, result, error));
+        } catch (RuntimeException e) {
+            complete(key, flight, null, e);
+        }
+        return flight.result().thenApply(clazz::cast);
+    }
+
+    /**
+     * 진행 중인 미스가 있다면 그 결과를 기다려 반환합니다. 진행 중인 미스가 없거나(PER 조기 갱신 포함)
+     * 결과가 비어 있다면 {@code null}이며, 리더가 실패했다면 같은 예외를 던집니다.
+     */
+    public <T> T join(String key, Class<T> clazz) {
+        Flight flight = inFlight.get(key);
+        if (flight == null || flight.refresh()) {
+            return null;
+        }
+        return clazz.cast(await(flight.result()));
+    }
+
+    /**
+     * {@link #join}의 비동기 버전. 진행 중인 미스가 없다면 {@code null}을 반환합니다.
+     */
+    public <T> CompletableFuture<T> joinAsync(String key, Class<T> clazz) {
+        Flight flight = inFlight.get(key);
+        if (flight == null || flight.refresh()) {
+            return null;
+        }
+        return flight.result().thenApply(clazz::cast);
+    }
+
+    /**
+     * 미스에서 분산 락을 획득한 리더의 재계산을 등록하여, 그동안 같은 키로 들어온 요청이 결과를 메모리에서 바로 받게 합니다.
+     * 락을 가진 쪽은 합류하지 않으므로, 이미 다른 요청이 진행 중이라면 등록 없이 {@code loader}를 그대로 실행합니다.
+     */
+    public <T> T lead(String key, Supplier<T> loader) {
+        return lead(key, loader, false);
+    }
+
+    /**
+     * PER 조기 갱신 락을 획득한 리더의 재계산. 미스는 합류하지만 {@link #join}(히트일 수 있는 요청)은 기다리지 않습니다.
+     */
+    public <T> T leadRefresh(String key, Supplier<T> loader) {
+        return lead(key, loader, true);
+    }
+
+    /**
+     * {@link #lead}의 비동기 버전.
+     */
+    public <T> CompletableFuture<T> leadAsync(String key, Supplier<CompletableFuture<T>> loader) {
+        return leadAsync(key, loader, false);
+    }
+
+    /**
+     * {@link #leadRefresh}의 비동기 버전.
+     */
+    public <T> CompletableFuture<T> leadRefreshAsync(String key, Supplier<CompletableFuture<T>> loader) {
+        return leadAsync(key, loader, true);
+    }
+
+    public boolean isInFlight(String key) {
+        return inFlight.containsKey(key);
+    }
+
+    private <T> T lead(String key, Supplier<T> loader, boolean refresh) {
+        Flight flight = new Flight(new CompletableFuture<>(), refresh);
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return loader.get();
+        }
+
+        return run(key, flight, loader);
+    }
+
+    private <T> CompletableFuture<T> leadAsync(String key, Supplier<CompletableFuture<T>> loader, boolean refresh) {
+        Flight flight = new Flight(new CompletableFuture<>(), refresh);
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return loader.get();
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException e) {
+            complete(key, flight, null, e);
+            throw e;
+        }
+
+        return result.whenComplete((value, error) -> complete(key, flight, value, error));
+    }
+
+    private <T> T run(String key, Flight flight, Supplier<T> loader) {
+        try {
+            T result = loader.get();
+            flight.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void complete(String key, Flight flight, Object result, Throwable error) {
+        inFlight.remove(key, flight);
+        if (error != null) {
+            flight.result().completeExceptionally(error);
+        } else {
+            flight.result().complete(result);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
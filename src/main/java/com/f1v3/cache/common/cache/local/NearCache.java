@@ -0,0 +1,82 @@
+package com.f1v3.cache.common.cache.local;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis(L2) 앞단에 위치하는 애플리케이션 내부(L1) 캐시.
+ * <p>
+ * 직렬화 크기를 가중치로 사용해 전체 용량을 제한하고,
+ * 엔트리의 수명은 Redis PTTL과 캐시 정책의 {@code localMaxTtlMs}(기본값 {@code cache.per.local.max-ttl-ms}) 중 짧은 값으로 결정합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class NearCache {
+
+    private final boolean enabled;
+    private final Cache<String, NearCacheEntry> cache;
+
+    public NearCache(PerCacheProperties cacheProperties) {
+        PerCacheProperties.Local local = cacheProperties.getLocal();
+
+        this.enabled = local.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(local.getMaximumWeight())
+                .weigher((String key, NearCacheEntry entry) -> entry.weight())
+                .expireAfter(new Expiry<String, NearCacheEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, NearCacheEntry entry, long currentTime) {
+                        long remainingMs = Math.min(entry.remainingTtl(System.currentTimeMillis()), entry.maxTtlMs());
+                        return Math.max(0, TimeUnit.MILLISECONDS.toNanos(remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, NearCacheEntry entry,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, NearCacheEntry entry,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public NearCacheEntry get(String key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(String key, Object value, Integer delta, long remainingTtl, int weight, long maxTtlMs) {
+        if (!enabled || value == null || remainingTtl <= 0) {
+            return;
+        }
+
+        long expireAtMs = System.currentTimeMillis() + remainingTtl;
+        cache.put(key, new NearCacheEntry(value, delta, expireAtMs, weight, maxTtlMs));
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
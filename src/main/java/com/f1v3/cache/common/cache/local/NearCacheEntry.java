@@ -0,0 +1,23 @@
+package com.f1v3.cache.common.cache.local;
+
+/**
+ * L1 캐시에 보관되는 엔트리.
+ *
+ * @param value       역직렬화된 캐시 값
+ * @param delta       Redis에 저장된 재계산 소요 시간(ms)
+ * @param expireAtMs  Redis PTTL 기준 만료 시각(epoch ms)
+ * @param weight      직렬화된 값의 크기 (L1 용량 계산용)
+ * @param maxTtlMs    캐시 정책의 L1 최대 수명
+ */
+public record NearCacheEntry(
+        Object value,
+        Integer delta,
+        long expireAtMs,
+        int weight,
+        long maxTtlMs
+) {
+
+    public long remainingTtl(long nowMs) {
+        return expireAtMs - nowMs;
+    }
+}
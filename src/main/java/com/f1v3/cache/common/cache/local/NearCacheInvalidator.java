@@ -0,0 +1,145 @@
+package com.f1v3.cache.common.cache.local;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스 간 L1 캐시 무효화를 담당하는 클래스.
+ * <p>
+ * 재계산으로 값이 갱신되면 키를 버퍼에 모아두었다가 {@code invalidationBatchMs} 주기로
+ * 한 번에 발행(Pub/Sub)하여 메시지 폭주를 막습니다.
+ * 수신 측은 자신이 발행한 메시지를 제외하고 해당 키를 L1에서 제거합니다.
+ * <p>
+ * 메시지 형식: {@code nodeId\nkey1\nkey2...}
+ * <p>
+ * {@code TRACKING} 모드에서는 Redis 서버가 키 변경을 직접 알려주므로({@link NearCacheTracker}) 발행하지 않습니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Slf4j
+@Component
+public class NearCacheInvalidator implements MessageListener {
+
+    private static final char SEPARATOR = '\n';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NearCache nearCache;
+    private final byte[] channel;
+    private final int maxBatchSize;
+    private final boolean publishing;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "near-cache-invalidator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NearCacheInvalidator(RedisTemplate<String, Object> redisTemplate,
+                                NearCache nearCache,
+                                PerCacheProperties cacheProperties) {
+        PerCacheProperties.Local local = cacheProperties.getLocal();
+
+        this.redisTemplate = redisTemplate;
+        this.nearCache = nearCache;
+        this.channel = local.getInvalidationChannel().getBytes(StandardCharsets.UTF_8);
+        this.maxBatchSize = local.getInvalidationMaxBatchSize();
+        this.publishing = nearCache.isEnabled()
+                && local.getInvalidationMode() == PerCacheProperties.InvalidationMode.PUBSUB;
+
+        if (publishing) {
+            long period = local.getInvalidationBatchMs();
+            scheduler.scheduleWithFixedDelay(this::flush, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 L1에서 제거할 키를 등록합니다. (실제 발행은 배치 주기마다 수행)
+     */
+    public void publish(String key) {
+        if (publishing) {
+            pendingKeys.add(key);
+        }
+    }
+
+    void flush() {
+        try {
+            while (!pendingKeys.isEmpty()) {
+                List<String> batch = drain();
+                byte[] payload = encode(batch);
+                redisTemplate.execute((RedisCallback<Long>) connection -> publish(connection, payload));
+            }
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스의 L1은 maxTtlMs 이후 자연 만료됨
+            log.warn("Failed to publish near cache invalidation, err={}", e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        int start = payload.indexOf(SEPARATOR);
+        if (start < 0 || payload.startsWith(nodeId)) {
+            return;
+        }
+
+        while (start < payload.length()) {
+            int end = payload.indexOf(SEPARATOR, start + 1);
+            if (end < 0) {
+                end = payload.length();
+            }
+
+            nearCache.invalidate(payload.substring(start + 1, end));
+            start = end;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    private List<String> drain() {
+        List<String> batch = new ArrayList<>();
+        Iterator<String> iterator = pendingKeys.iterator();
+
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private byte[] encode(List<String> keys) {
+        StringBuilder builder = new StringBuilder(nodeId);
+        for (String key : keys) {
+            builder.append(SEPARATOR).append(key);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Long publish(RedisConnection connection, byte[] payload) {
+        return connection.publish(channel, payload);
+    }
+}
@@ -0,0 +1,155 @@
+package com.f1v3.cache.common.cache.local;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Redis 서버 지원 L1 무효화 (RESP3 {@code CLIENT TRACKING}).
+ * <p>
+ * 전용 연결에서 {@code CLIENT TRACKING ON BCAST PREFIX ...}를 켜 두면, 어떤 연결에서든 추적 대상 키가
+ * 변경/만료될 때 서버가 같은 연결로 {@code invalidate} Push 메시지를 보내며 이를 받아 L1에서 제거합니다.
+ * <ul>
+ *  <li>조회 연결과 무관한 BCAST 방식을 사용하므로 복제본 읽기(EVALSHA_RO)와 함께 사용할 수 있음</li>
+ *  <li>재연결(Sentinel 장애 조치 포함) 시 추적 상태가 사라지므로 다시 켜고, 끊겨 있던 동안 놓친 알림이
+ *      있을 수 있어 L1 전체를 비움</li>
+ * </ul>
+ * 클러스터 모드는 노드마다 추적 연결이 필요하므로 지원하지 않으며, 이 경우 {@code maxTtlMs}에 의한 만료만 적용됩니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Slf4j
+@Component
+public class NearCacheTracker implements PushListener, RedisConnectionStateListener {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final NearCache nearCache;
+    private final List<String> prefixes;
+    private final boolean enabled;
+
+    // 이벤트 루프 스레드에서 명령을 기다리지 않도록 재활성화는 별도 스레드에서 수행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "near-cache-tracker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public NearCacheTracker(RedisConnectionFactory redisConnectionFactory,
+                            NearCache nearCache,
+                            PerCacheProperties cacheProperties) {
+        PerCacheProperties.Local local = cacheProperties.getLocal();
+
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.nearCache = nearCache;
+        this.prefixes = List.copyOf(local.getTrackingPrefixes());
+        this.enabled = nearCache.isEnabled()
+                && local.getInvalidationMode() == PerCacheProperties.InvalidationMode.TRACKING;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!(redisConnectionFactory instanceof LettuceConnectionFactory factory)
+                || !(factory.getNativeClient() instanceof RedisClient redisClient)) {
+            log.warn("Client tracking requires a standalone/sentinel Lettuce client, near cache relies on maxTtlMs");
+            return;
+        }
+
+        try {
+            // Sentinel 구성이라면 현재 마스터에 연결되며, 재연결 시에도 Sentinel을 통해 새 마스터를 찾음
+            StatefulRedisConnection<String, String> trackingConnection = redisClient.connect(StringCodec.UTF8);
+            trackingConnection.addListener((PushListener) this);
+            redisClient.addListener(this);
+            this.connection = trackingConnection;
+
+            enableTracking();
+            log.info("Near cache client tracking enabled, prefixes={}", prefixes);
+        } catch (Exception e) {
+            log.warn("Failed to enable near cache client tracking, err={}", e.toString());
+        }
+    }
+
+    @Override
+    public void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+
+        // FLUSHALL/FLUSHDB 시에는 키 목록 없이(null) 전달됨
+        if (!(keys instanceof List<?> invalidatedKeys)) {
+            nearCache.invalidateAll();
+            return;
+        }
+
+        for (Object key : invalidatedKeys) {
+            nearCache.invalidate((String) key);
+        }
+    }
+
+    @Override
+    public void onRedisConnected(RedisChannelHandler<?, ?> channelHandler, SocketAddress socketAddress) {
+        if (channelHandler == connection) {
+            executor.execute(() -> {
+                nearCache.invalidateAll();
+                enableTracking();
+                log.info("Near cache client tracking re-enabled, remote={}", socketAddress);
+            });
+        }
+    }
+
+    @Override
+    public void onRedisDisconnected(RedisChannelHandler<?, ?> channelHandler) {
+        if (channelHandler == connection) {
+            // 끊긴 동안에는 무효화 알림을 받을 수 없음
+            nearCache.invalidateAll();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private void enableTracking() {
+        try {
+            TrackingArgs trackingArgs = TrackingArgs.Builder.enabled().bcast();
+            if (!prefixes.isEmpty()) {
+                trackingArgs.prefixes(prefixes.toArray(String[]::new));
+            }
+            connection.sync().clientTracking(trackingArgs);
+        } catch (Exception e) {
+            // 추적이 꺼진 동안에도 L1은 maxTtlMs 이후 자연 만료됨
+            log.warn("Failed to enable client tracking, err={}", e.toString());
+        }
+    }
+}
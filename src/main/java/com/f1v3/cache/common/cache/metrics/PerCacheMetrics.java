@@ -0,0 +1,175 @@
+package com.f1v3.cache.common.cache.metrics;
+
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PER 캐시 Micrometer 지표 ({@code /api/actuator/prometheus}).
+ * <p>
+ * 모든 지표는 캐시 이름({@code cache} 태그)별로 기동 시점에 미리 등록해 두며,
+ * 조회 경로에서는 {@link CachePolicy} 인스턴스로 {@link CacheMeters}를 찾아 카운터 증가와
+ * {@code Timer#record(long, TimeUnit)}만 수행하므로 기록 시 객체를 만들지 않습니다.
+ *
+ * <ul>
+ *  <li>{@code per.cache.requests{layer=l1|l2, result=hit|miss}}</li>
+ *  <li>{@code per.cache.replica{result=hit|fallback}}, {@code per.cache.admission.rejected}</li>
+ *  <li>{@code per.cache.early.refresh}: PER/논리 만료로 조기 갱신을 시작한 횟수</li>
+ *  <li>{@code per.cache.lock{outcome=acquired|lost}}: 락을 시도한 모든 호출(미스, PER 조기 갱신, 팔로워 재조회)의 결과</li>
+ *  <li>{@code per.cache.follower{outcome=hit|takeover|failure}}: 팔로워 재조회 결과</li>
+ *  <li>{@code per.cache.recompute}, {@code per.cache.serialize}, {@code per.cache.deserialize}</li>
+ *  <li>{@code per.cache.script{script=...}}: Lua 스크립트 왕복 지연</li>
+ * </ul>
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class PerCacheMetrics {
+
+    private final Map<CachePolicy, CacheMeters> meters = new IdentityHashMap<>();
+
+    public PerCacheMetrics(MeterRegistry meterRegistry, CachePolicyRegistry cachePolicyRegistry) {
+        for (CachePolicy policy : cachePolicyRegistry.all()) {
+            meters.put(policy, new CacheMeters(meterRegistry, policy.displayName()));
+        }
+    }
+
+    public CacheMeters of(CachePolicy policy) {
+        return meters.get(policy);
+    }
+
+    public enum Script {
+        GET_OR_LOCK,
+        GET_ALL,
+        SET_AND_UNLOCK,
+        LOCK,
+        UNLOCK
+    }
+
+    /**
+     * 캐시 1개의 지표 묶음.
+     */
+    public static final class CacheMeters {
+
+        private final Counter localHit;
+        private final Counter localMiss;
+        private final Counter redisHit;
+        private final Counter redisMiss;
+        private final Counter replicaHit;
+        private final Counter replicaFallback;
+        private final Counter admissionRejected;
+        private final Counter earlyRefresh;
+        private final Counter lockAcquired;
+        private final Counter lockLost;
+        private final Counter followerHit;
+        private final Counter followerTakeover;
+        private final Counter followerFailure;
+        private final Timer recompute;
+        private final Timer serialize;
+        private final Timer deserialize;
+        private final Timer[] scripts = new Timer[Script.values().length];
+
+        private CacheMeters(MeterRegistry registry, String cache) {
+            this.localHit = counter(registry, "per.cache.requests", cache, "layer", "l1", "result", "hit");
+            this.localMiss = counter(registry, "per.cache.requests", cache, "layer", "l1", "result", "miss");
+            this.redisHit = counter(registry, "per.cache.requests", cache, "layer", "l2", "result", "hit");
+            this.redisMiss = counter(registry, "per.cache.requests", cache, "layer", "l2", "result", "miss");
+            this.replicaHit = counter(registry, "per.cache.replica", cache, "result", "hit");
+            this.replicaFallback = counter(registry, "per.cache.replica", cache, "result", "fallback");
+            this.admissionRejected = counter(registry, "per.cache.admission.rejected", cache);
+            this.earlyRefresh = counter(registry, "per.cache.early.refresh", cache);
+            this.lockAcquired = counter(registry, "per.cache.lock", cache, "outcome", "acquired");
+            this.lockLost = counter(registry, "per.cache.lock", cache, "outcome", "lost");
+            this.followerHit = counter(registry, "per.cache.follower", cache, "outcome", "hit");
+            this.followerTakeover = counter(registry, "per.cache.follower", cache, "outcome", "takeover");
+            this.followerFailure = counter(registry, "per.cache.follower", cache, "outcome", "failure");
+            this.recompute = timer(registry, "per.cache.recompute", cache);
+            this.serialize = timer(registry, "per.cache.serialize", cache);
+            this.deserialize = timer(registry, "per.cache.deserialize", cache);
+            for (Script script : Script.values()) {
+                scripts[script.ordinal()] = timer(registry, "per.cache.script", cache,
+                        "script", script.name().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        public void localHit() {
+            localHit.increment();
+        }
+
+        public void localMiss() {
+            localMiss.increment();
+        }
+
+        public void redisHit() {
+            redisHit.increment();
+        }
+
+        public void redisMiss() {
+            redisMiss.increment();
+        }
+
+        public void replicaHit() {
+            replicaHit.increment();
+        }
+
+        public void replicaFallback() {
+            replicaFallback.increment();
+        }
+
+        public void admissionRejected() {
+            admissionRejected.increment();
+        }
+
+        public void earlyRefresh() {
+            earlyRefresh.increment();
+        }
+
+        public void lock(boolean acquired) {
+            (acquired ? lockAcquired : lockLost).increment();
+        }
+
+        public void followerHit() {
+            followerHit.increment();
+        }
+
+        public void followerTakeover() {
+            followerTakeover.increment();
+        }
+
+        public void followerFailure() {
+            followerFailure.increment();
+        }
+
+        public void recordRecompute(long nanos) {
+            recompute.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordSerialize(long nanos) {
+            serialize.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordDeserialize(long nanos) {
+            deserialize.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordScript(Script script, long nanos) {
+            scripts[script.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private static Counter counter(MeterRegistry registry, String name, String cache, String... tags) {
+            return Counter.builder(name).tag("cache", cache).tags(tags).register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String cache, String... tags) {
+            return Timer.builder(name).tag("cache", cache).tags(tags).register(registry);
+        }
+    }
+}
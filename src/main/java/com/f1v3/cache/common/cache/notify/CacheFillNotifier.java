@@ -0,0 +1,99 @@
+package com.f1v3.cache.common.cache.notify;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 리더의 락 해제(= 캐시 적재 완료)를 팔로워에게 알리는 클래스.
+ * <p>
+ * 리더는 락을 해제하는 스크립트(per_cache_set_and_unlock.lua, unlock.lua) 안에서
+ * 키별 채널({@code fillChannelPrefix + key})에 발행하고,
+ * 팔로워는 해당 키의 알림을 기다렸다가 즉시 캐시를 다시 조회합니다.
+ * 구독은 패턴({@code fillChannelPrefix + "*"}) 하나로 처리하며,
+ * 같은 키를 기다리는 JVM 내부 팔로워들은 하나의 Future를 공유합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class CacheFillNotifier implements MessageListener {
+
+    private final String channelPrefix;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    public CacheFillNotifier(PerCacheProperties cacheProperties) {
+        this.channelPrefix = cacheProperties.getFillChannelPrefix();
+    }
+
+    public String channelPattern() {
+        return channelPrefix + "*";
+    }
+
+    public String channelFor(String key) {
+        return channelPrefix + key;
+    }
+
+    /**
+     * 키에 대한 알림 대기를 등록합니다.
+     * 알림 누락을 막기 위해 반드시 캐시를 다시 조회하기 <b>전에</b> 호출해야 합니다.
+     */
+    public CompletableFuture<Void> register(String key) {
+        return waiters.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    /**
+     * 알림을 최대 {@code timeoutMs} 동안 기다립니다.
+     *
+     * @return 제한 시간 내에 알림을 받았다면 true
+     */
+    public boolean await(String key, CompletableFuture<Void> released, long timeoutMs) {
+        try {
+            released.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            waiters.remove(key, released);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@link #await}의 비동기 버전. 공유 Future를 취소하지 않도록 복사본에 제한 시간을 겁니다.
+     *
+     * @return 제한 시간 내에 알림을 받았다면 true를 담은 Future
+     */
+    public CompletableFuture<Boolean> awaitAsync(String key, CompletableFuture<Void> released, long timeoutMs) {
+        return released.copy()
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        waiters.remove(key, released);
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String key = channel.substring(channelPrefix.length());
+
+        CompletableFuture<Void> released = waiters.remove(key);
+        if (released != null) {
+            released.complete(null);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.f1v3.cache.common.cache.policy;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.key.EntryKey;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전역 설정과 캐시별 설정을 합쳐 미리 계산해 둔 캐시 정책.
+ * 조회 경로에서는 프로퍼티를 다시 읽지 않고 이 객체의 값만 사용합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Getter
+@AllArgsConstructor
+public class CachePolicy {
+
+    private final String name;                  // 기본 캐시라면 null
+    private final String keyPrefix;             // "<name>:", 기본 캐시라면 빈 문자열
+    private final double beta;
+    private final long defaultTtl;
+    private final long lockTtlMs;
+    private final long deltaRetentionMs;
+    private final int retryAttempts;
+    private final long baseBackoffMs;
+    private final double waitDeltaMultiplier;
+    private final boolean staleEnabled;
+    private final long staleTtlMs;
+    private final int maxValueBytes;            // 0 = 제한 없음
+    private final boolean hashedKeys;           // key-strategy: hashed
+    private final boolean adaptiveTtlEnabled;   // 꺼져 있다면 항상 defaultTtl
+    private final long adaptiveMinTtlMs;
+    private final long adaptiveMaxTtlMs;
+    private final boolean admissionEnabled;
+    private final int admissionMinFrequency;
+    private final long admissionExpensiveRecomputeMs;
+    private final long localMaxTtlMs;           // L1에 머무를 수 있는 최대 시간
+    private final CacheCodec codec;
+
+    /**
+     * Redis 키. 이름 있는 캐시끼리 키가 겹치지 않도록 캐시 이름을 prefix로 붙입니다.
+     */
+    public String redisKey(String key) {
+        return keyPrefix.isEmpty() ? key : keyPrefix + key;
+    }
+
+    /**
+     * 요청 1건의 엔트리 키. 해시 키 전략이라면 스크립트에 넘기는 Redis 키가 {@code <name>:<64비트 해시>}로 고정되며,
+     * 해시는 이 호출에서 한 번만 계산합니다.
+     *
+     * @param redisKey {@link #redisKey(String)} 결과 (L1, Single Flight 등 JVM 내부에서는 이 키를 그대로 사용)
+     */
+    public EntryKey entryKey(String redisKey) {
+        return hashedKeys ? EntryKey.hashed(keyPrefix, redisKey) : EntryKey.raw(redisKey);
+    }
+
+    /**
+     * 지표 태그 등에 사용할 이름. 기본 캐시는 {@code default}입니다.
+     */
+    public String displayName() {
+        return name != null ? name : "default";
+    }
+
+    public boolean exceedsMaxValueBytes(int encodedSize) {
+        return maxValueBytes > 0 && encodedSize > maxValueBytes;
+    }
+}
@@ -0,0 +1,118 @@
+package com.f1v3.cache.common.cache.policy;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.codec.CacheCodecFactory;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.exception.CacheException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이름 있는 캐시({@code cache.per.caches.<name>})의 정책 레지스트리.
+ * <p>
+ * 기동 시점에 캐시별 설정과 전역 설정을 합쳐 {@link CachePolicy}를 만들어 두며,
+ * 같은 Codec 종류를 쓰는 캐시끼리는 Codec 인스턴스를 공유합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class CachePolicyRegistry {
+
+    private final CachePolicy defaultPolicy;
+    private final Map<String, CachePolicy> policies = new HashMap<>();
+
+    public CachePolicyRegistry(PerCacheProperties cacheProperties,
+                               CacheCodec cacheCodec,
+                               CacheCodecFactory cacheCodecFactory) {
+        Map<PerCacheProperties.Codec, CacheCodec> codecs = new EnumMap<>(PerCacheProperties.Codec.class);
+        codecs.put(cacheProperties.getCodec(), cacheCodec);
+
+        this.defaultPolicy = resolve(null, cacheProperties, new PerCacheProperties.CacheSpec(), cacheCodec);
+
+        cacheProperties.getCaches().forEach((name, spec) -> {
+            PerCacheProperties.Codec codecType = spec.getCodec() != null ? spec.getCodec() : cacheProperties.getCodec();
+            CacheCodec codec = codecs.computeIfAbsent(codecType, cacheCodecFactory::create);
+            policies.put(name, resolve(name, cacheProperties, spec, codec));
+        });
+
+        all().forEach(CachePolicyRegistry::validate);
+
+        // tracking 알림은 Redis 키로 오므로 해시 키로는 L1 키를 되찾을 수 없음
+        PerCacheProperties.Local local = cacheProperties.getLocal();
+        if (local.isEnabled() && local.getInvalidationMode() == PerCacheProperties.InvalidationMode.TRACKING
+                && all().stream().anyMatch(CachePolicy::isHashedKeys)) {
+            throw new CacheException("tracking 무효화 모드에서는 key-strategy=hashed를 사용할 수 없음");
+        }
+    }
+
+    /**
+     * 이름 없이 조회하는 기존 API가 사용하는 정책 (전역 {@code cache.per} 설정 그대로)
+     */
+    public CachePolicy defaultPolicy() {
+        return defaultPolicy;
+    }
+
+    /**
+     * 기본 정책을 포함한 전체 정책 (지표 사전 등록 등 기동 시점 용도)
+     */
+    public List<CachePolicy> all() {
+        List<CachePolicy> all = new ArrayList<>();
+        all.add(defaultPolicy);
+        all.addAll(policies.values());
+        return all;
+    }
+
+    public CachePolicy get(String cacheName) {
+        CachePolicy policy = policies.get(cacheName);
+        if (policy == null) {
+            throw new CacheException("등록되지 않은 캐시: " + cacheName);
+        }
+        return policy;
+    }
+
+    private static CachePolicy resolve(String name, PerCacheProperties global, PerCacheProperties.CacheSpec spec,
+                                       CacheCodec codec) {
+        return new CachePolicy(
+                name,
+                name == null ? "" : name + ":",
+                or(spec.getBeta(), global.getBeta()),
+                or(spec.getDefaultTtl(), global.getDefaultTtl()),
+                or(spec.getLockTtlMs(), global.getDefaultLockTtlMs()),
+                or(spec.getDeltaRetentionMs(), global.getDeltaRetentionMs()),
+                or(spec.getRetryAttempts(), global.getRetryAttempts()),
+                or(spec.getBaseBackoffMs(), global.getBaseBackoffMs()),
+                or(spec.getWaitDeltaMultiplier(), global.getWaitDeltaMultiplier()),
+                or(spec.getStaleEnabled(), global.getStale().isEnabled()),
+                or(spec.getStaleTtlMs(), global.getStale().getTtlMs()),
+                or(spec.getMaxValueBytes(), global.getMaxValueBytes()),
+                or(spec.getKeyStrategy(), global.getKeyStrategy()) == PerCacheProperties.KeyStrategy.HASHED,
+                or(spec.getAdaptiveTtlEnabled(), global.getAdaptiveTtl().isEnabled()),
+                or(spec.getAdaptiveMinTtlMs(), global.getAdaptiveTtl().getMinTtlMs()),
+                or(spec.getAdaptiveMaxTtlMs(), global.getAdaptiveTtl().getMaxTtlMs()),
+                or(spec.getAdmissionEnabled(), global.getAdmission().isEnabled()),
+                or(spec.getAdmissionMinFrequency(), global.getAdmission().getMinFrequency()),
+                or(spec.getAdmissionExpensiveRecomputeMs(), global.getAdmission().getExpensiveRecomputeMs()),
+                or(spec.getLocalMaxTtlMs(), global.getLocal().getMaxTtlMs()),
+                codec
+        );
+    }
+
+    private static void validate(CachePolicy policy) {
+        if (policy.isAdaptiveTtlEnabled() && policy.getAdaptiveMinTtlMs() > policy.getAdaptiveMaxTtlMs()) {
+            throw new CacheException("적응형 TTL 최소값이 최대값보다 큼: " + policy.displayName());
+        }
+        if (policy.isAdmissionEnabled()
+                && (policy.getAdmissionMinFrequency() < 1 || policy.getAdmissionMinFrequency() > 15)) {
+            throw new CacheException("저장 입장 최소 빈도는 1~15 (4비트 카운터): " + policy.displayName());
+        }
+    }
+
+    private static <T> T or(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,102 @@
+package com.f1v3.cache.common.cache.refresh;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 갱신을 요청 스레드와 분리해 백그라운드에서 수행하는 실행기.
+ * <p>
+ * 가상 스레드 기반이지만 동시 실행 수({@code threads})와 대기열({@code queueCapacity})을 제한하며,
+ * 대기열이 가득 차면 호출자를 막지 않고 갱신을 버립니다(shed).
+ * 같은 키의 갱신은 동시에 하나만 등록됩니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Slf4j
+@Component
+public class CacheRefreshExecutor {
+
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public CacheRefreshExecutor(PerCacheProperties cacheProperties) {
+        PerCacheProperties.Refresh refresh = cacheProperties.getRefresh();
+
+        this.executor = new ThreadPoolExecutor(
+                refresh.getThreads(),
+                refresh.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refresh.getQueueCapacity()),
+                Thread.ofVirtual().name("cache-refresh-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * @return 갱신 작업이 등록되었다면 true, 이미 같은 키가 갱신 중이거나 과부하로 버려졌다면 false
+     */
+    public boolean submit(String key, Runnable refresh) {
+        if (!pendingKeys.add(key)) {
+            deduplicated.increment();
+            return false;
+        }
+
+        try {
+            executor.execute(() -> run(key, refresh));
+            submitted.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingKeys.remove(key);
+            rejected.increment();
+            log.debug("Background refresh shed for key={}, queue={}", key, executor.getQueue().size());
+            return false;
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("refresh.queue", (long) executor.getQueue().size());
+        snapshot.put("refresh.active", (long) executor.getActiveCount());
+        snapshot.put("refresh.submitted", submitted.sum());
+        snapshot.put("refresh.deduplicated", deduplicated.sum());
+        snapshot.put("refresh.rejected", rejected.sum());
+        snapshot.put("refresh.completed", completed.sum());
+        snapshot.put("refresh.failed", failed.sum());
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(String key, Runnable refresh) {
+        try {
+            refresh.run();
+            completed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Background refresh failed for key={}", key, e);
+        } finally {
+            pendingKeys.remove(key);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.f1v3.cache.common.cache.script;
+
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.resource.ClientResources;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PER 캐시 Lua 스크립트 실행기.
+ * <p>
+ * 스크립트 SHA와 본문 바이트를 생성 시점에 한 번만 계산해 두고, 항상 EVALSHA로 raw byte 인자를 전달합니다.
+ * ({@code DefaultRedisScript#getSha1()}은 호출마다 모니터 락과 리소스 변경 여부 확인을 거칩니다.)
+ * <ul>
+ *  <li>애플리케이션 기동 완료 시, 그리고 Lettuce 연결이 (재)활성화될 때마다 SCRIPT LOAD로 미리 적재
+ *      (Sentinel 장애 조치로 새 마스터가 선출되면 스크립트 캐시가 비어 있음)</li>
+ *  <li>그래도 NOSCRIPT가 발생하면 같은 호출 안에서 적재 후 EVALSHA를 한 번 더 수행</li>
+ * </ul>
+ * 쓰기가 없는 스크립트는 {@link #executeReadOnly}로 EVALSHA_RO를 사용할 수 있으며,
+ * Lettuce가 읽기 전용 명령으로 분류하므로 {@code ReadFrom} 설정에 따라 복제본으로 라우팅됩니다.
+ * <p>
+ * 클러스터 모드에서는 Lettuce가 첫 번째 키의 슬롯으로 라우팅하고 SCRIPT LOAD를 모든 마스터에 보내므로,
+ * 호출하는 쪽은 한 번의 호출에 같은 슬롯의 키만 넘기면 됩니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Slf4j
+@Component
+public class CacheScriptExecutor {
+
+    private static final long RELOAD_DELAY_MS = 200;    // 재연결 이벤트가 몰릴 때 한 번만 적재
+
+    private final RedisTemplate<String, byte[]> cacheRedisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveCacheRedisTemplate;
+    private final Map<RedisScript<?>, LoadedScript> scripts = new IdentityHashMap<>();
+
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-script-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Disposable reconnectSubscription;
+    private final long commandTimeoutMs;
+    private final boolean cluster;
+
+    public CacheScriptExecutor(RedisTemplate<String, byte[]> cacheRedisTemplate,
+                               ReactiveRedisTemplate<String, byte[]> reactiveCacheRedisTemplate,
+                               List<RedisScript<?>> redisScripts,
+                               ClientResources clientResources) {
+        this.cacheRedisTemplate = cacheRedisTemplate;
+        this.reactiveCacheRedisTemplate = reactiveCacheRedisTemplate;
+
+        for (RedisScript<?> script : redisScripts) {
+            scripts.put(script, new LoadedScript(
+                    script.getSha1(),
+                    script.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+                    ReturnType.fromJavaType(script.getResultType())));
+        }
+
+        LettuceConnectionFactory factory = cacheRedisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory f
+                ? f : null;
+        this.commandTimeoutMs = factory != null ? factory.getClientConfiguration().getCommandTimeout().toMillis() : 3_000;
+        this.cluster = factory != null && factory.isClusterAware();
+
+        this.reconnectSubscription = clientResources.eventBus().get()
+                .filter(ConnectionActivatedEvent.class::isInstance)
+                .subscribe(event -> scheduleReload());
+    }
+
+    public <T> T execute(RedisScript<T> script, List<String> keys, byte[]... args) {
+        LoadedScript loaded = loaded(script);
+        byte[][] keysAndArgs = keysAndArgs(keys, args);
+
+        return cacheRedisTemplate.execute((RedisCallback<T>) connection -> {
+            RedisScriptingCommands commands = connection.scriptingCommands();
+            try {
+                return commands.evalSha(loaded.sha(), loaded.returnType(), keys.size(), keysAndArgs);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                commands.scriptLoad(loaded.body());
+                return commands.evalSha(loaded.sha(), loaded.returnType(), keys.size(), keysAndArgs);
+            }
+        });
+    }
+
+    public <T> Flux<T> executeReactive(RedisScript<T> script, List<String> keys, byte[]... args) {
+        LoadedScript loaded = loaded(script);
+        byte[][] keysAndArgs = keysAndArgs(keys, args);
+
+        return reactiveCacheRedisTemplate.execute(connection -> {
+            ReactiveScriptingCommands commands = connection.scriptingCommands();
+            return commands.<T>evalSha(loaded.sha(), loaded.returnType(), keys.size(), wrap(keysAndArgs))
+                    .onErrorResume(this::isNoScript, e -> commands.scriptLoad(ByteBuffer.wrap(loaded.body()))
+                            .thenMany(commands.<T>evalSha(
+                                    loaded.sha(), loaded.returnType(), keys.size(), wrap(keysAndArgs))));
+        });
+    }
+
+    public <T> T executeReadOnly(RedisScript<T> script, List<String> keys, byte[]... args) {
+        return await(executeReadOnlyAsync(script, keys, args));
+    }
+
+    /**
+     * EVALSHA_RO. SCRIPT LOAD는 복제본에 전파되지 않으므로, 복제본에서 NOSCRIPT가 나면
+     * EVAL_RO(본문 전송)로 한 번 더 수행하며 이때 해당 복제본의 스크립트 캐시에도 적재됩니다.
+     * <p>
+     * 공유 네이티브 연결({@code shareNativeConnection}, 기본값)을 사용하므로 연결 반납 이후에도 Future가 유효합니다.
+     */
+    public <T> CompletableFuture<T> executeReadOnlyAsync(RedisScript<T> script, List<String> keys, byte[]... args) {
+        return executeNative(script, keys, args, true);
+    }
+
+    /**
+     * 마스터에서 EVALSHA를 비동기로 수행합니다. 클러스터에서 슬롯별 호출을 동시에 내보낼 때 사용합니다.
+     */
+    public <T> CompletableFuture<T> executeAsync(RedisScript<T> script, List<String> keys, byte[]... args) {
+        return executeNative(script, keys, args, false);
+    }
+
+    /**
+     * 클러스터 모드 여부. 여러 키를 한 스크립트로 다룰 때는 같은 슬롯의 키끼리만 묶어야 합니다.
+     */
+    public boolean isCluster() {
+        return cluster;
+    }
+
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RedisCommandTimeoutException("Script timed out after " + commandTimeoutMs + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RedisException(e.getCause());
+        }
+    }
+
+    private <T> CompletableFuture<T> executeNative(RedisScript<T> script, List<String> keys, byte[][] args,
+                                                   boolean readOnly) {
+        LoadedScript loaded = loaded(script);
+        byte[][] keyBytes = keysAndArgs(keys, new byte[0][]);   // 네이티브 API는 키와 인자를 따로 받음
+        ScriptOutputType outputType = outputType(loaded.returnType());
+        RedisClusterAsyncCommands<byte[], byte[]> commands = nativeCommands();
+
+        if (readOnly) {
+            return commands.<T>evalshaReadOnly(loaded.sha(), outputType, keyBytes, args)
+                    .toCompletableFuture()
+                    .exceptionallyCompose(e -> isNoScript(e)
+                            ? commands.<T>evalReadOnly(loaded.body(), outputType, keyBytes, args).toCompletableFuture()
+                            : CompletableFuture.failedFuture(e));
+        }
+
+        return commands.<T>evalsha(loaded.sha(), outputType, keyBytes, args)
+                .toCompletableFuture()
+                .exceptionallyCompose(e -> isNoScript(e)
+                        ? commands.<T>eval(loaded.body(), outputType, keyBytes, args).toCompletableFuture()
+                        : CompletableFuture.failedFuture(e));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            cacheRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (LoadedScript loaded : scripts.values()) {
+                    String sha = connection.scriptingCommands().scriptLoad(loaded.body());
+                    if (!loaded.sha().equals(sha)) {
+                        log.warn("Unexpected script sha, expected={}, actual={}", loaded.sha(), sha);
+                    }
+                }
+                return null;
+            });
+            log.info("Preloaded {} cache scripts", scripts.size());
+        } catch (Exception e) {
+            // 적재 실패 시에도 첫 호출의 NOSCRIPT 처리로 복구됨
+            log.warn("Failed to preload cache scripts, err={}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconnectSubscription.dispose();
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleReload() {
+        if (reloadScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                reloadScheduled.set(false);
+                preload();
+            }, RELOAD_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisClusterAsyncCommands<byte[], byte[]> nativeCommands() {
+        return cacheRedisTemplate.execute((RedisCallback<RedisClusterAsyncCommands<byte[], byte[]>>) connection ->
+                (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection());
+    }
+
+    private static ScriptOutputType outputType(ReturnType returnType) {
+        return switch (returnType) {
+            case BOOLEAN -> ScriptOutputType.BOOLEAN;
+            case INTEGER -> ScriptOutputType.INTEGER;
+            case MULTI -> ScriptOutputType.MULTI;
+            case STATUS -> ScriptOutputType.STATUS;
+            case VALUE -> ScriptOutputType.VALUE;
+        };
+    }
+
+    private LoadedScript loaded(RedisScript<?> script) {
+        LoadedScript loaded = scripts.get(script);
+        if (loaded == null) {
+            throw new IllegalArgumentException("Unregistered cache script: " + script.getSha1());
+        }
+        return loaded;
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisNoScriptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[][] keysAndArgs(List<String> keys, byte[][] args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+        return keysAndArgs;
+    }
+
+    private static ByteBuffer[] wrap(byte[][] keysAndArgs) {
+        ByteBuffer[] buffers = new ByteBuffer[keysAndArgs.length];
+        for (int i = 0; i < keysAndArgs.length; i++) {
+            buffers[i] = ByteBuffer.wrap(keysAndArgs[i]);
+        }
+        return buffers;
+    }
+
+    private record LoadedScript(String sha, byte[] body, ReturnType returnType) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.f1v3.cache.common.cache.stats;
+
+import com.f1v3.cache.common.cache.metrics.PerCacheMetrics;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 계층(L1: 로컬, L2: Redis)별 히트/미스 카운터.
+ * <p>
+ * {@link #snapshot()}은 전체 캐시 합계이며, 같은 이벤트를 캐시 이름별 Micrometer 지표({@link PerCacheMetrics})에도 기록합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+@RequiredArgsConstructor
+public class PerCacheStats {
+
+    private final PerCacheMetrics perCacheMetrics;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder replicaHits = new LongAdder();
+    private final LongAdder replicaFallbacks = new LongAdder();
+    private final LongAdder admissionRejects = new LongAdder();
+
+    public void recordLocalHit(CachePolicy policy) {
+        localHits.increment();
+        perCacheMetrics.of(policy).localHit();
+    }
+
+    public void recordLocalMiss(CachePolicy policy) {
+        localMisses.increment();
+        perCacheMetrics.of(policy).localMiss();
+    }
+
+    public void recordRedisHit(CachePolicy policy) {
+        redisHits.increment();
+        perCacheMetrics.of(policy).redisHit();
+    }
+
+    public void recordRedisMiss(CachePolicy policy) {
+        redisMisses.increment();
+        perCacheMetrics.of(policy).redisMiss();
+    }
+
+    public void recordReplicaHit(CachePolicy policy) {
+        replicaHits.increment();
+        perCacheMetrics.of(policy).replicaHit();
+    }
+
+    /**
+     * 복제본 조회 결과가 미스(복제 지연 포함)이거나 갱신 대상이라 마스터에서 다시 조회한 경우
+     */
+    public void recordReplicaFallback(CachePolicy policy) {
+        replicaFallbacks.increment();
+        perCacheMetrics.of(policy).replicaFallback();
+    }
+
+    /**
+     * 조회 빈도가 낮아 재계산 결과를 저장하지 않은 경우
+     */
+    public void recordAdmissionReject(CachePolicy policy) {
+        admissionRejects.increment();
+        perCacheMetrics.of(policy).admissionRejected();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("l1.hit", localHits.sum());
+        snapshot.put("l1.miss", localMisses.sum());
+        snapshot.put("l2.hit", redisHits.sum());
+        snapshot.put("l2.miss", redisMisses.sum());
+        snapshot.put("l2.replica.hit", replicaHits.sum());
+        snapshot.put("l2.replica.fallback", replicaFallbacks.sum());
+        snapshot.put("l2.admission.reject", admissionRejects.sum());
+        return snapshot;
+    }
+}
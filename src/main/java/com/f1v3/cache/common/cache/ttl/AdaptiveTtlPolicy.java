@@ -0,0 +1,92 @@
+package com.f1v3.cache.common.cache.ttl;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 접근 빈도와 재계산 비용(delta)으로 논리 TTL을 정하는 정책.
+ * <p>
+ * 직전 저장 이후 이 인스턴스에서 관측한 초당 접근 수(heat)와 재계산 시간(cost)을 각각 0~1로 정규화한 뒤
+ * {@code minTtlMs ~ maxTtlMs} 범위에서 TTL을 결정합니다.
+ * <pre>
+ * score = heat * (0.5 + 0.5 * cost)     // 자주 읽히고 비싼 키 = 1, 자주 읽히지만 싼 키 = 0.5, 한 번 읽힌 키 ≒ 0
+ * ttl   = minTtlMs + (maxTtlMs - minTtlMs) * score
+ * </pre>
+ * 접근 카운터는 {@code maxTrackedKeys} 이내로 유지되므로 롱테일 키가 많아도 메모리가 늘어나지 않으며,
+ * 사용 여부와 TTL 범위는 캐시 정책별로 정하며, 비활성화된 캐시는 항상 캐시 정책의 {@code defaultTtl}을 사용합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Component
+public class AdaptiveTtlPolicy {
+
+    private static final long MIN_WINDOW_MS = 1_000;   // 저장 직후 재계산 등 짧은 구간에서 빈도가 부풀려지지 않도록
+
+    private final PerCacheProperties.AdaptiveTtl config;
+    private final Cache<String, AccessCounter> counters;
+
+    public AdaptiveTtlPolicy(PerCacheProperties cacheProperties) {
+        this.config = cacheProperties.getAdaptiveTtl();
+
+        // 카운터는 가장 긴 최대 TTL의 2배 동안 접근이 없을 때만 정리
+        long maxTtlMs = config.getMaxTtlMs();
+        for (PerCacheProperties.CacheSpec spec : cacheProperties.getCaches().values()) {
+            if (spec.getAdaptiveMaxTtlMs() != null) {
+                maxTtlMs = Math.max(maxTtlMs, spec.getAdaptiveMaxTtlMs());
+            }
+        }
+
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(config.getMaxTrackedKeys())
+                .expireAfterAccess(Duration.ofMillis(maxTtlMs * 2))
+                .build();
+    }
+
+    public void recordAccess(String key, CachePolicy policy) {
+        if (policy.isAdaptiveTtlEnabled()) {
+            counters.get(key, k -> new AccessCounter(System.currentTimeMillis())).hits.increment();
+        }
+    }
+
+    /**
+     * 저장할 값의 논리 TTL. 호출 시점에 해당 키의 접근 카운터를 초기화하므로 다음 저장은 그 사이의 빈도로 판단합니다.
+     */
+    public long ttlFor(String key, long computationTime, CachePolicy policy) {
+        if (!policy.isAdaptiveTtlEnabled()) {
+            return policy.getDefaultTtl();
+        }
+
+        long now = System.currentTimeMillis();
+        AccessCounter counter = counters.getIfPresent(key);
+        double hitsPerSecond = counter != null ? counter.drain(now) : 0;
+
+        double heat = Math.min(1.0, hitsPerSecond / config.getHotHitsPerSecond());
+        double cost = Math.min(1.0, (double) computationTime / config.getCostReferenceMs());
+        double score = heat * (0.5 + 0.5 * cost);
+
+        long minTtlMs = policy.getAdaptiveMinTtlMs();
+        return minTtlMs + Math.round((policy.getAdaptiveMaxTtlMs() - minTtlMs) * score);
+    }
+
+    private static final class AccessCounter {
+
+        private final LongAdder hits = new LongAdder();
+        private volatile long windowStartMs;
+
+        private AccessCounter(long windowStartMs) {
+            this.windowStartMs = windowStartMs;
+        }
+
+        private double drain(long now) {
+            long elapsed = Math.max(MIN_WINDOW_MS, now - windowStartMs);
+            windowStartMs = now;
+            return hits.sumThenReset() * 1000.0 / elapsed;
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package com.f1v3.cache.common.normalizer;
 
-import java.util.regex.Pattern;
-
 /**
  * 검색어 정규화를 위한 유틸리티 클래스
  * 효율적인 캐시 적용을 위해 검색어를 일관된 형태로 변환합니다.
+ * <p>
+ * 모든 검색 요청이 거치는 경로이므로 정규식 없이 문자 단위로 한 번만 훑으며,
+ * 자주 들어오는 검색어는 크기가 고정된 intern 테이블에서 이전에 만든 문자열을 그대로 돌려주어 할당 없이 처리합니다.
  *
  * @author Seungjo, Jeong
  */
 public class QueryNormalizer {
 
-    private static final Pattern WHITE_SPACE = Pattern.compile("\\s+");
-    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^가-힣a-z0-9]");
+    private static final char REMOVED = 0;
+
+    private static final int INTERN_TABLE_SIZE = 1 << 10;   // 2의 거듭제곱
+    private static final int MAX_INTERN_LENGTH = 64;        // 긴 검색어는 재사용될 가능성이 낮아 테이블을 오염시키지 않음
+
+    // 슬롯 충돌 시 덮어쓰는 direct-mapped 테이블.
+    // String은 불변(final 필드)이므로 동기화 없이 공유해도 다른 스레드에서 항상 완전한 값이 보이며, 경합 시 일부 갱신이 유실될 뿐입니다.
+    private static final String[] INTERN_TABLE = new String[INTERN_TABLE_SIZE];
 
     private QueryNormalizer() {
         // 유틸리티 클래스이므로 인스턴스 생성을 방지
@@ -20,21 +27,96 @@ public class QueryNormalizer {
     /**
      * 검색어를 정규화합니다.
      * 1. 공백 제거
-     * 2. 소문자로 변환
+     * 2. 소문자로 변환 (Locale과 무관하게 변환, 예: 터키어 Locale에서도 {@code I → i})
      * 3. 영숫자, 한글을 제외한 특수문자 제거
+     * <p>
+     * 이미 정규화된 검색어는 같은 인스턴스를, intern 테이블에 있는 검색어는 테이블의 인스턴스를 반환합니다.
      *
      * @param query 정규화할 검색어
      * @return 정규화된 검색어
      */
     public static String normalize(String query) {
-        if (query == null || query.trim().isEmpty()) {
+        if (query == null) {
+            return "";
+        }
+
+        // 1회차: 결과 길이와 해시(String#hashCode와 같은 방식)를 계산
+        int length = 0;
+        int hash = 0;
+        boolean unchanged = true;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            char folded = fold(c);
+            if (folded == REMOVED) {
+                unchanged = false;
+                continue;
+            }
+            if (folded != c) {
+                unchanged = false;
+            }
+            hash = 31 * hash + folded;
+            length++;
+        }
+
+        if (length == 0) {
             return "";
         }
+        if (length > MAX_INTERN_LENGTH) {
+            return unchanged ? query : build(query, length);
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (INTERN_TABLE_SIZE - 1);
+        String interned = INTERN_TABLE[slot];
+        if (interned != null && interned.length() == length && interned.hashCode() == hash
+                && matches(query, interned)) {
+            return interned;
+        }
+
+        String normalized = unchanged ? query : build(query, length);
+        INTERN_TABLE[slot] = normalized;
+        return normalized;
+    }
+
+    /**
+     * 정규화 후의 문자. 제거 대상이면 {@link #REMOVED}.
+     * 허용 문자는 {@code [가-힣a-z0-9]}이며, 대문자는 Locale과 무관한 유니코드 소문자 변환 결과가 허용 문자일 때만 남습니다.
+     * (예: {@code 'A' → 'a'}, {@code 'İ'(U+0130) → 'i'}, {@code 'K'(U+212A, 켈빈 기호) → 'k'}, 전각 {@code 'Ａ'}는 제거)
+     */
+    private static char fold(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c < 0x80) {
+            return REMOVED;
+        }
+
+        char lower = Character.toLowerCase(c);
+        return lower >= 'a' && lower <= 'z' ? lower : REMOVED;
+    }
 
-        String normalizedQuery = WHITE_SPACE.matcher(query).replaceAll("");
-        normalizedQuery = normalizedQuery.toLowerCase();
-        normalizedQuery = NON_ALPHANUMERIC.matcher(normalizedQuery).replaceAll("");
+    private static boolean matches(String query, String normalized) {
+        int index = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char folded = fold(query.charAt(i));
+            if (folded != REMOVED && normalized.charAt(index++) != folded) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return normalizedQuery;
+    private static String build(String query, int length) {
+        char[] chars = new char[length];
+        int index = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char folded = fold(query.charAt(i));
+            if (folded != REMOVED) {
+                chars[index++] = folded;
+            }
+        }
+        return new String(chars);
     }
 }
@@ -0,0 +1,85 @@
+package com.f1v3.cache.config.redis;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.codec.CacheCodecFactory;
+import com.f1v3.cache.common.cache.codec.CompressingCacheCodec;
+import com.f1v3.cache.common.cache.codec.JacksonCacheCodec;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PER 캐시 값 직렬화(Codec) 설정 클래스.
+ *
+ * <ul>
+ *  <li>smile: 바이너리 JSON(Smile). 반복되는 필드명/문자열 값을 back-reference로 압축
+ *  <li>json: 일반 JSON (redis-cli 등으로 값을 직접 확인해야 할 때)
+ * </ul>
+ * 압축이 활성화되어 있다면 위 Codec을 {@link CompressingCacheCodec}으로 감쌉니다.
+ *
+ * @author Seungjo, Jeong
+ */
+@Configuration
+public class CacheCodecConfig {
+
+    @Bean
+    public CacheCodec cacheCodec(PerCacheProperties cacheProperties, ObjectMapper objectMapper) throws IOException {
+        return cacheCodecFactory(cacheProperties, objectMapper).create(cacheProperties.getCodec());
+    }
+
+    // 이름 있는 캐시가 전역 설정과 다른 Codec을 지정한 경우에 사용 (압축 설정은 공유)
+    @Bean
+    public CacheCodecFactory cacheCodecFactory(PerCacheProperties cacheProperties,
+                                               ObjectMapper objectMapper) throws IOException {
+        PerCacheProperties.Compression compression = cacheProperties.getCompression();
+        byte[] dictionary = compression.isEnabled() ? readDictionary(compression.getDictionary()) : null;
+        ObjectMapper smileMapper = smileMapper();
+
+        return codecType -> {
+            CacheCodec codec = switch (codecType) {
+                case JSON -> new JacksonCacheCodec(objectMapper);
+                case SMILE -> new JacksonCacheCodec(smileMapper);
+            };
+
+            if (!compression.isEnabled()) {
+                return codec;
+            }
+
+            return new CompressingCacheCodec(
+                    codec,
+                    compression.getThresholdBytes(),
+                    compression.getLevel(),
+                    dictionary);
+        };
+    }
+
+    private byte[] readDictionary(Resource dictionary) throws IOException {
+        if (dictionary == null) {
+            return null;
+        }
+
+        try (InputStream in = dictionary.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private ObjectMapper smileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        return new SmileMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+}
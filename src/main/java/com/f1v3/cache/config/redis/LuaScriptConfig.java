@@ -17,21 +17,37 @@ import java.util.List;
 public class LuaScriptConfig {
 
     @Bean
-    public DefaultRedisScript<List> cacheGetRedisScript() {
+    public DefaultRedisScript<List> cacheGetOrLockRedisScript() {
         DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_get.lua")));
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_get_or_lock.lua")));
         redisScript.setResultType(List.class);
         return redisScript;
     }
 
     @Bean
-    public DefaultRedisScript<String> cacheSetRedisScript() {
-        DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_set.lua")));
-        redisScript.setResultType(String.class);
+    public DefaultRedisScript<List> cacheGetAllRedisScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_get_all.lua")));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> cacheSetAndUnlockRedisScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_set_and_unlock.lua")));
+        redisScript.setResultType(Long.class);
         return redisScript;
     }
 
+    @Bean
+    public DefaultRedisScript<Long> lockScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("lua/per_cache_lock.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
     @Bean
     public DefaultRedisScript<Long> unlockScript() {
         DefaultRedisScript<Long> script = new DefaultRedisScript<>();
@@ -9,16 +9,26 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -29,30 +39,70 @@ public class RedisConfig {
 
     private final RedisProperties redisProperties;
 
+    // 연결 이벤트(EventBus)를 구독할 수 있도록 Lettuce 리소스를 빈으로 공유
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        return DefaultClientResources.create();
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
 
         SocketOptions socketOptions = SocketOptions.builder()
                 .connectTimeout(Duration.ofMillis(1000))
                 .build();
 
-        ClientOptions clientOptions = ClientOptions.builder()
-                .autoReconnect(true)
-                .socketOptions(socketOptions)
-                .build();
+        boolean cluster = redisProperties.getMode() == RedisProperties.Mode.CLUSTER;
+
+        ClientOptions clientOptions = cluster
+                ? ClusterClientOptions.builder()
+                        .autoReconnect(true)
+                        .protocolVersion(ProtocolVersion.RESP3)
+                        .socketOptions(socketOptions)
+                        .topologyRefreshOptions(topologyRefreshOptions())
+                        .build()
+                : ClientOptions.builder()
+                        .autoReconnect(true)
+                        .protocolVersion(ProtocolVersion.RESP3)   // CLIENT TRACKING 무효화 알림(Push) 수신
+                        .socketOptions(socketOptions)
+                        .build();
 
 
         LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(lettuceClientResources)
                 .commandTimeout(Duration.ofMillis(3000))
                 .readFrom(ReadFrom.REPLICA_PREFERRED)
                 .clientOptions(clientOptions)
                 .build();
 
-        LettuceConnectionFactory factory = new LettuceConnectionFactory(sentinelConfiguration(), clientConfiguration);
+        LettuceConnectionFactory factory = cluster
+                ? new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration)
+                : new LettuceConnectionFactory(sentinelConfiguration(), clientConfiguration);
         factory.setValidateConnection(true);
         return factory;
     }
 
+    private RedisClusterConfiguration clusterConfiguration() {
+        RedisClusterConfiguration clusterConfiguration = new RedisClusterConfiguration();
+
+        // 시드 노드: 나머지 노드와 슬롯 배치는 CLUSTER SHARDS 응답으로 파악
+        redisProperties.getCluster().getNodes().forEach(node ->
+            clusterConfiguration.clusterNode(node.getHost(), node.getPort())
+        );
+
+        clusterConfiguration.setMaxRedirects(redisProperties.getCluster().getMaxRedirects());
+        clusterConfiguration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        return clusterConfiguration;
+    }
+
+    // 리샤딩/장애 조치 시 MOVED, ASK, 재연결 이벤트를 계기로 토폴로지를 즉시 갱신
+    private ClusterTopologyRefreshOptions topologyRefreshOptions() {
+        return ClusterTopologyRefreshOptions.builder()
+                .enablePeriodicRefresh(Duration.ofMillis(redisProperties.getCluster().getTopologyRefreshMs()))
+                .enableAllAdaptiveRefreshTriggers()
+                .build();
+    }
+
     private RedisSentinelConfiguration sentinelConfiguration() {
         RedisSentinelConfiguration sentinelConfiguration = new RedisSentinelConfiguration()
                 .master(redisProperties.getSentinel().getMaster());
@@ -79,6 +129,31 @@ public class RedisConfig {
         return template;
     }
 
+    // 캐시 엔트리 전용: 값은 CacheCodec이 인코딩한 바이트를 그대로 저장
+    @Bean
+    public RedisTemplate<String, byte[]> cacheRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    // cacheRedisTemplate과 같은 직렬화 규칙을 사용해 동기/리액티브 캐시 매니저가 같은 엔트리를 공유
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveCacheRedisTemplate(
+            ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(StringRedisSerializer.UTF_8)
+                .value(RedisSerializationContext.SerializationPair.byteArray())
+                .build();
+
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+    }
+
     // RedisTemplate을 직접 사용, ObjectMapper를 통해 직접 직렬화/역직렬화
     private ObjectMapper objectMapper() {
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
@@ -0,0 +1,41 @@
+package com.f1v3.cache.config.redis;
+
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.local.NearCacheInvalidator;
+import com.f1v3.cache.common.cache.notify.CacheFillNotifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub Listener 설정 클래스.
+ *
+ * @author Seungjo, Jeong
+ */
+@Configuration
+public class RedisMessageListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       NearCacheInvalidator nearCacheInvalidator,
+                                                                       CacheFillNotifier cacheFillNotifier,
+                                                                       PerCacheProperties cacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+
+        // 다른 인스턴스에서 재계산된 키를 L1 캐시에서 제거
+        container.addMessageListener(
+                nearCacheInvalidator,
+                new ChannelTopic(cacheProperties.getLocal().getInvalidationChannel()));
+
+        // 리더의 락 해제 알림을 받아 대기 중인 팔로워를 깨움
+        container.addMessageListener(
+                cacheFillNotifier,
+                new PatternTopic(cacheFillNotifier.channelPattern()));
+
+        return container;
+    }
+}
@@ -17,19 +17,32 @@ import java.util.List;
 @ConfigurationProperties(prefix = "redis")
 public class RedisProperties {
 
+    private Mode mode = Mode.SENTINEL;
     private Sentinel sentinel;
+    private Cluster cluster;
     private String password;
 
+    public enum Mode {
+        SENTINEL,
+        CLUSTER
+    }
+
     @Data
     public static class Sentinel {
         private String master;
         private List<Node> nodes;
+    }
 
-        @Data
-        public static class Node {
-            private String host;
-            private int port;
-        }
+    @Data
+    public static class Cluster {
+        private List<Node> nodes;
+        private int maxRedirects = 3;
+        private long topologyRefreshMs = 30_000;    // 주기적 토폴로지 갱신 (MOVED/ASK 등은 즉시 갱신)
+    }
 
+    @Data
+    public static class Node {
+        private String host;
+        private int port;
     }
 }
@@ -8,6 +8,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * 책 검색을 위한 Controller.
@@ -18,6 +21,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SearchBookController {
 
+    private static final int MAX_PAGE_COUNT = 10;
+
     private final SearchBookUseCase searchBookUseCase;
 
     @GetMapping("/api/books")
@@ -29,4 +34,31 @@ public class SearchBookController {
         return ResponseEntity.ok(searchBookUseCase.search(normalizedQuery, page));
     }
 
+    /**
+     * {@code from} ~ {@code to} 페이지를 한 번에 조회합니다. (최대 {@value MAX_PAGE_COUNT} 페이지)
+     */
+    @GetMapping("/api/books/pages")
+    public ResponseEntity<List<SearchBookResponse>> searchPages(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "1") int from,
+            @RequestParam int to) {
+
+        if (from < 1 || to < from || to - from + 1 > MAX_PAGE_COUNT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String normalizedQuery = QueryNormalizer.normalize(query);
+        return ResponseEntity.ok(searchBookUseCase.searchPages(normalizedQuery, from, to));
+    }
+
+    @GetMapping("/api/reactive/books")
+    public Mono<ResponseEntity<SearchBookResponse>> searchReactive(
+            @RequestParam String query,
+            @RequestParam int page) {
+
+        String normalizedQuery = QueryNormalizer.normalize(query);
+        return searchBookUseCase.searchReactive(normalizedQuery, page)
+                .map(ResponseEntity::ok);
+    }
+
 }
@@ -1,15 +1,32 @@
 package com.f1v3.cache.controller;
 
 import com.f1v3.cache.clients.test.TestSearchBookAdapter;
+import com.f1v3.cache.common.cache.refresh.CacheRefreshExecutor;
+import com.f1v3.cache.common.cache.stats.PerCacheStats;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 @RestController
+@RequiredArgsConstructor
 public class TestController {
 
+    private final PerCacheStats perCacheStats;
+    private final CacheRefreshExecutor cacheRefreshExecutor;
+
     @GetMapping("/api/test-count")
     public String testCount() {
         return TestSearchBookAdapter.REQUEST_COUNT.toString();
     }
+
+    @GetMapping("/api/cache-stats")
+    public Map<String, Long> cacheStats() {
+        Map<String, Long> stats = new LinkedHashMap<>(perCacheStats.snapshot());
+        stats.putAll(cacheRefreshExecutor.snapshot());
+        return stats;
+    }
 }
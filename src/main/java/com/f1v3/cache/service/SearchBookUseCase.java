@@ -2,26 +2,39 @@ package com.f1v3.cache.service;
 
 import com.f1v3.cache.clients.api.SearchBookAdapter;
 import com.f1v3.cache.common.cache.PerRedisCacheManager;
+import com.f1v3.cache.common.cache.ReactivePerCacheManager;
 import com.f1v3.cache.config.circuitbreaker.CircuitBreakerProvider;
 import com.f1v3.cache.dto.SearchBookResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 public class SearchBookUseCase {
 
+    private static final String CACHE_NAME = "searchBook";
+
     private final SearchBookAdapter searchBookAdapter;
     private final PerRedisCacheManager perRedisCacheManager;
+    private final ReactivePerCacheManager reactivePerCacheManager;
 
     public SearchBookUseCase(
             @Qualifier("testSearchBookAdapter") SearchBookAdapter searchBookAdapter,
-            PerRedisCacheManager perRedisCacheManager
+            PerRedisCacheManager perRedisCacheManager,
+            ReactivePerCacheManager reactivePerCacheManager
     ) {
         this.searchBookAdapter = searchBookAdapter;
         this.perRedisCacheManager = perRedisCacheManager;
+        this.reactivePerCacheManager = reactivePerCacheManager;
     }
 
     @CircuitBreaker(
@@ -32,19 +45,78 @@ public class SearchBookUseCase {
         String cacheKey = generateCacheKey(query, page);
 
         return perRedisCacheManager.get(
+                CACHE_NAME,
                 cacheKey,
                 SearchBookResponse.class,
                 () -> SearchBookResponse.from(searchBookAdapter.search(query, page))
         );
     }
 
+    /**
+     * 여러 페이지를 한 번에 검색합니다. 캐시 조회는 한 번의 Redis 호출로 처리됩니다.
+     */
+    @CircuitBreaker(
+            name = CircuitBreakerProvider.CIRCUIT_REDIS,
+            fallbackMethod = "searchPagesWithoutCache"
+    )
+    public List<SearchBookResponse> searchPages(String query, int fromPage, int toPage) {
+        Map<String, Integer> pageByKey = new LinkedHashMap<>();
+        IntStream.rangeClosed(fromPage, toPage)
+                .forEach(page -> pageByKey.put(generateCacheKey(query, page), page));
+
+        Map<String, SearchBookResponse> responses = perRedisCacheManager.getAll(
+                CACHE_NAME,
+                pageByKey.keySet(),
+                SearchBookResponse.class,
+                cacheKey -> SearchBookResponse.from(searchBookAdapter.search(query, pageByKey.get(cacheKey)))
+        );
+
+        return pageByKey.keySet().stream()
+                .map(responses::get)
+                .toList();
+    }
+
+    public List<SearchBookResponse> searchPagesWithoutCache(String query, int fromPage, int toPage, Throwable e) {
+        return IntStream.rangeClosed(fromPage, toPage)
+                .mapToObj(page -> SearchBookResponse.from(searchBookAdapter.search(query, page)))
+                .toList();
+    }
+
+    /**
+     * Non-Blocking 검색. 외부 API 호출(Feign)은 Blocking이므로 boundedElastic 스케줄러에서 수행합니다.
+     */
+    @CircuitBreaker(
+            name = CircuitBreakerProvider.CIRCUIT_REDIS,
+            fallbackMethod = "searchReactiveWithoutCache"
+    )
+    public Mono<SearchBookResponse> searchReactive(String query, int page) {
+        String cacheKey = generateCacheKey(query, page);
+
+        return reactivePerCacheManager.get(
+                CACHE_NAME,
+                cacheKey,
+                SearchBookResponse.class,
+                () -> searchFromOrigin(query, page)
+        );
+    }
+
+    public Mono<SearchBookResponse> searchReactiveWithoutCache(String query, int page, Throwable e) {
+        return searchFromOrigin(query, page);
+    }
+
     public SearchBookResponse searchWithoutCache(String query, int page, Throwable e) {
 //        log.warn("Fallback이 다음과 같은 오류로 인해 활성화됨: {}", e.getMessage());
 //        log.info("레디스를 사용할 수 없어 외부 API를 직접 호출. query: {}, page: {}", query, page);
         return SearchBookResponse.from(searchBookAdapter.search(query, page));
     }
 
+    private Mono<SearchBookResponse> searchFromOrigin(String query, int page) {
+        return Mono.fromCallable(() -> SearchBookResponse.from(searchBookAdapter.search(query, page)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 캐시 이름(searchBook:)은 캐시 매니저가 붙임
     private String generateCacheKey(String query, int page) {
-        return "searchBook:" + query + ":" + page;
+        return query + ":" + page;
     }
 }
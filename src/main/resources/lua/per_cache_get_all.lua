@@ -0,0 +1,24 @@
+-- ARGV: 키 지문(해시 키 전략일 때만, KEYS와 같은 순서)
+local now = redis.call('time');
+local nowMs = now[1] * 1000 + math.floor(now[2] / 1000);
+
+local results = {};
+for i = 1, #KEYS do
+    local values = redis.call('hmget', KEYS[i], 'value', 'delta', 'version', 'expireAt', 'key');
+    local pttl = redis.call('hpttl', KEYS[i], 'FIELDS', 1, 'value')[1];
+
+    -- 해시 충돌로 다른 키의 엔트리라면(지문 불일치) 미스로 처리
+    if ARGV[i] and values[1] and values[5] ~= ARGV[i] then
+        values = {false, false, false, false};
+        pttl = -2;
+    end
+
+    local logicalTtl = false;
+    if values[4] then
+        logicalTtl = tonumber(values[4]) - nowMs;
+    end
+
+    results[#results + 1] = {{values[1], values[2], values[3]}, {pttl, logicalTtl}};
+end
+
+return results;
@@ -0,0 +1,40 @@
+-- ARGV: 락 토큰, 락 TTL, PER 계수(beta * -ln(rand), 음수라면 값이 있을 때는 락을 시도하지 않음), 키 지문(해시 키 전략일 때만, 8바이트)
+local values = redis.call('hmget', KEYS[1], 'value', 'delta', 'version', 'expireAt', 'key');
+local pttl = redis.call('hpttl', KEYS[1], 'FIELDS', 1, 'value')[1];
+
+-- 해시 충돌로 다른 키의 엔트리라면(지문 불일치) 미스로 처리 (락을 얻은 리더가 덮어씀)
+if ARGV[4] and values[1] and values[5] ~= ARGV[4] then
+    values = {false, false, false, false};
+    pttl = -2;
+end
+
+local logicalTtl = false;
+if values[4] then
+    local now = redis.call('time');
+    logicalTtl = tonumber(values[4]) - (now[1] * 1000 + math.floor(now[2] / 1000));
+end
+
+-- 미스이거나 PER 조기 갱신 대상(논리 만료 포함)이라면 같은 호출 안에서 락 획득 시도
+local factor = tonumber(ARGV[3]);
+local wantsLock;
+if not values[1] then
+    wantsLock = true;
+elseif factor < 0 then
+    wantsLock = false;
+elseif not values[2] then
+    wantsLock = true;
+else
+    wantsLock = (logicalTtl or pttl) <= tonumber(values[2]) * factor;
+end
+
+local locked = 0;
+if wantsLock and redis.call('hsetnx', KEYS[1], 'lock', ARGV[1]) == 1 then
+    redis.call('hpexpire', KEYS[1], ARGV[2], 'FIELDS', 1, 'lock');
+    if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then
+        redis.call('pexpire', KEYS[1], ARGV[2]);
+    end
+    locked = 1;
+end
+
+-- 락 시도 여부도 함께 반환하여 호출 측이 락 경합 결과(획득/실패)를 집계할 수 있게 함
+return {{values[1], values[2], values[3]}, {pttl, logicalTtl, locked, wantsLock and 1 or 0}};
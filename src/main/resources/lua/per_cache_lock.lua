@@ -0,0 +1,12 @@
+if redis.call('hsetnx', KEYS[1], 'lock', ARGV[1]) == 0 then
+    return 0;
+end
+
+redis.call('hpexpire', KEYS[1], ARGV[2], 'FIELDS', 1, 'lock');
+
+-- 새로 만들어진 엔트리이거나 키가 락보다 먼저 만료되는 경우
+if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then
+    redis.call('pexpire', KEYS[1], ARGV[2]);
+end
+
+return 1;
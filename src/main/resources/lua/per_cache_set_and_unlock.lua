@@ -0,0 +1,24 @@
+-- ARGV: 값, delta, 물리 TTL, 키 TTL, 논리 TTL, 락 토큰, 적재 알림 채널, 키 지문(해시 키 전략일 때만)
+local now = redis.call('time');
+local expireAt = now[1] * 1000 + math.floor(now[2] / 1000) + tonumber(ARGV[5]);
+
+redis.call('hset', KEYS[1], 'value', ARGV[1], 'delta', ARGV[2], 'expireAt', expireAt);
+local version = redis.call('hincrby', KEYS[1], 'version', 1);
+
+-- 해시 키 전략: 조회 시 충돌 검증에 쓰는 키 지문
+if ARGV[8] then
+    redis.call('hset', KEYS[1], 'key', ARGV[8]);
+end
+
+-- 값은 물리 TTL 이후 사라지고, delta/version은 키 TTL(물리 TTL + delta 유지 시간)까지 남음
+redis.call('hpexpire', KEYS[1], ARGV[3], 'FIELDS', 2, 'value', 'expireAt');
+
+-- 락 TTL 만료 후 다른 리더가 가져간 락은 건드리지 않음
+if redis.call('hget', KEYS[1], 'lock') == ARGV[6] then
+    redis.call('hdel', KEYS[1], 'lock');
+end
+
+redis.call('pexpire', KEYS[1], ARGV[4]);
+redis.call('publish', ARGV[7], '');
+
+return version;
@@ -1,5 +1,10 @@
-if redis.call('get', KEYS[1]) == ARGV[1] then
-    return redis.call('del', KEYS[1]
-else
-    return 0
-end
\ No newline at end of file
+-- ARGV: 락 토큰, 적재 알림 채널
+local released = 0;
+if redis.call('hget', KEYS[1], 'lock') == ARGV[1] then
+    released = redis.call('hdel', KEYS[1], 'lock');
+end
+
+-- 재계산에 실패했더라도 팔로워가 대기 시간을 모두 소모하지 않도록 알림
+redis.call('publish', ARGV[2], '');
+
+return released;
@@ -0,0 +1,48 @@
+package com.f1v3.cache.simulator;
+
+import java.util.Arrays;
+
+/**
+ * 요청 1건 = (시작 시각 오프셋, 응답 시간). 작업 스레드마다 하나씩 사용하므로 동기화하지 않습니다.
+ *
+ * @author Seungjo, Jeong
+ */
+final class LatencySamples {
+
+    private long[] offsetsMs = new long[1024];
+    private long[] latenciesNs = new long[1024];
+    private int size;
+
+    void add(long offsetMs, long latencyNs) {
+        if (size == offsetsMs.length) {
+            offsetsMs = Arrays.copyOf(offsetsMs, size * 2);
+            latenciesNs = Arrays.copyOf(latenciesNs, size * 2);
+        }
+        offsetsMs[size] = offsetMs;
+        latenciesNs[size] = latencyNs;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long offsetMs(int index) {
+        return offsetsMs[index];
+    }
+
+    long latencyNs(int index) {
+        return latenciesNs[index];
+    }
+
+    /**
+     * 정렬된 응답 시간에서 백분위 값(ms). 표본이 없으면 0.
+     */
+    static double percentileMs(long[] sortedLatenciesNs, double percentile) {
+        if (sortedLatenciesNs.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatenciesNs.length) - 1;
+        return sortedLatenciesNs[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.f1v3.cache.simulator;
+
+import com.f1v3.cache.clients.api.SearchBookAdapter;
+import com.f1v3.cache.clients.api.response.SearchBookDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code TestSearchBookAdapter}와 같은 방식으로 지연을 흉내 내는 원천(검색 API).
+ * <p>
+ * 호출 수와 함께, 같은 키를 이미 다른 요청이 원천에서 가져오는 중에 들어온 호출(중복 재계산) 수를 셉니다.
+ * 중복 재계산은 스탬피드 방지가 실패했음을 뜻합니다.
+ *
+ * @author Seungjo, Jeong
+ */
+class SimulatedSearchBookAdapter implements SearchBookAdapter {
+
+    private final int minLatencyMs;
+    private final int maxLatencyMs;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder duplicateCalls = new LongAdder();
+    private final ConcurrentHashMap<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    SimulatedSearchBookAdapter(int minLatencyMs, int maxLatencyMs) {
+        this.minLatencyMs = minLatencyMs;
+        this.maxLatencyMs = maxLatencyMs;
+    }
+
+    @Override
+    public SearchBookDTO search(String query, int page) {
+        String key = query + ":" + page;
+        AtomicInteger running = inFlight.computeIfAbsent(key, k -> new AtomicInteger());
+
+        calls.increment();
+        if (running.getAndIncrement() > 0) {
+            duplicateCalls.increment();
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(minLatencyMs, maxLatencyMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+
+        return response(query, page);
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    long duplicateCalls() {
+        return duplicateCalls.sum();
+    }
+
+    private static SearchBookDTO response(String query, int page) {
+        List<SearchBookDTO.Book> books = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            books.add(new SearchBookDTO.Book(
+                    "Effective Java: " + query + " Edition (" + (page * 10 + i) + ")",
+                    "Joshua Bloch",
+                    LocalDate.of(2018, 1, 1).plusDays(i),
+                    "https://via.placeholder.com/120x160?text=Book" + (page * 10 + i)
+            ));
+        }
+        return new SearchBookDTO(books, new SearchBookDTO.PageInfo(false, 1000, 3250, page));
+    }
+}
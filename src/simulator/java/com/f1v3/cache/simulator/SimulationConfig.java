@@ -0,0 +1,102 @@
+package com.f1v3.cache.simulator;
+
+import com.f1v3.cache.harness.PerCacheHarness;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 설정. {@code key=value} 형태의 실행 인자로 지정하며, 지정하지 않은 값은
+ * {@code locust/per-test.py}와 같은 트래픽 구성(핫키 1개 80%, 롱테일 50개, TTL 5초)을 따릅니다.
+ *
+ * <pre>
+ * ./gradlew simulate -PsimArgs="threads=500 beta=2.0 ttlMs=3000"
+ * </pre>
+ *
+ * @param durationSec    실행 시간
+ * @param threads        동시 요청 수 (가상 스레드, 응답을 받으면 곧바로 다음 요청)
+ * @param hotKeys        핫키 개수
+ * @param tailKeys       롱테일 키 개수
+ * @param hotRatio       핫키 요청 비율 (0~1)
+ * @param ttlMs          논리 TTL, 집계 구간(TTL 윈도우) 길이
+ * @param beta           PER beta
+ * @param lockTtlMs      재계산 락 TTL
+ * @param retryAttempts  팔로워 재조회 횟수
+ * @param asyncRefresh   PER 갱신을 백그라운드에서 수행할지 여부
+ * @param staleEnabled   논리 만료(stale-while-revalidate) 사용 여부
+ * @param staleTtlMs     논리 만료 이후 오래된 값을 제공하는 시간
+ * @param nearCache      L1 캐시 사용 여부
+ * @param originMinMs    원천(검색 API) 최소 응답 시간
+ * @param originMaxMs    원천(검색 API) 최대 응답 시간
+ * @param seed           키 선택 난수 시드
+ * @param redisImage     Redis 컨테이너 이미지 (Hash 필드 TTL 지원: 7.4+)
+ * @param output         결과 JSON 경로
+ * @author Seungjo, Jeong
+ */
+public record SimulationConfig(
+        int durationSec,
+        int threads,
+        int hotKeys,
+        int tailKeys,
+        double hotRatio,
+        long ttlMs,
+        double beta,
+        long lockTtlMs,
+        int retryAttempts,
+        boolean asyncRefresh,
+        boolean staleEnabled,
+        long staleTtlMs,
+        boolean nearCache,
+        int originMinMs,
+        int originMaxMs,
+        long seed,
+        String redisImage,
+        String output
+) {
+
+    public static SimulationConfig from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("key=value 형태가 아닌 인자: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        SimulationConfig config = new SimulationConfig(
+                Integer.parseInt(values.getOrDefault("durationSec", "30")),
+                Integer.parseInt(values.getOrDefault("threads", "200")),
+                Integer.parseInt(values.getOrDefault("hotKeys", "1")),
+                Integer.parseInt(values.getOrDefault("tailKeys", "50")),
+                Double.parseDouble(values.getOrDefault("hotRatio", "0.8")),
+                Long.parseLong(values.getOrDefault("ttlMs", "5000")),
+                Double.parseDouble(values.getOrDefault("beta", "1.0")),
+                Long.parseLong(values.getOrDefault("lockTtlMs", "600")),
+                Integer.parseInt(values.getOrDefault("retryAttempts", "1")),
+                Boolean.parseBoolean(values.getOrDefault("asyncRefresh", "true")),
+                Boolean.parseBoolean(values.getOrDefault("staleEnabled", "false")),
+                Long.parseLong(values.getOrDefault("staleTtlMs", "5000")),
+                Boolean.parseBoolean(values.getOrDefault("nearCache", "false")),
+                Integer.parseInt(values.getOrDefault("originMinMs", "200")),
+                Integer.parseInt(values.getOrDefault("originMaxMs", "500")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("redisImage", PerCacheHarness.DEFAULT_REDIS_IMAGE),
+                values.getOrDefault("output", "build/results/simulator/result.json")
+        );
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (durationSec <= 0 || threads <= 0 || ttlMs <= 0) {
+            throw new IllegalArgumentException("durationSec, threads, ttlMs는 0보다 커야 합니다.");
+        }
+        if (hotKeys <= 0 || tailKeys < 0 || hotRatio < 0 || hotRatio > 1) {
+            throw new IllegalArgumentException("hotKeys > 0, tailKeys >= 0, 0 <= hotRatio <= 1 이어야 합니다.");
+        }
+        if (originMinMs < 0 || originMaxMs < originMinMs) {
+            throw new IllegalArgumentException("0 <= originMinMs <= originMaxMs 이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.f1v3.cache.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 시뮬레이션 결과. 전체 합계와 TTL 윈도우(논리 TTL 길이의 구간)별 집계를 함께 담으며,
+ * 표준 출력 표와 JSON 파일로 내보냅니다.
+ *
+ * @author Seungjo, Jeong
+ */
+record SimulationReport(
+        SimulationConfig config,
+        Window total,
+        double throughputPerSec,
+        List<Window> windows
+) {
+
+    /**
+     * @param startMs              실행 시작 기준 윈도우 시작 시각
+     * @param requests             성공한 요청 수 (응답 시간 표본 수)
+     * @param duplicateOriginCalls 같은 키를 다른 요청이 원천에서 가져오는 중에 발생한 원천 호출
+     * @param lockLost             락 획득 실패 (미스/조기 갱신 경합)
+     */
+    record Window(
+            long startMs,
+            long requests,
+            long errors,
+            long originCalls,
+            long duplicateOriginCalls,
+            long lockAcquired,
+            long lockLost,
+            long earlyRefresh,
+            long followerHit,
+            long followerTakeover,
+            long followerFailure,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms
+    ) {
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n== PER stampede simulation: threads=%d hot=%d(%.0f%%) tail=%d ttl=%dms beta=%.2f lockTtl=%dms "
+                        + "retry=%d asyncRefresh=%s stale=%s nearCache=%s origin=%d~%dms%n",
+                config.threads(), config.hotKeys(), config.hotRatio() * 100, config.tailKeys(), config.ttlMs(),
+                config.beta(), config.lockTtlMs(), config.retryAttempts(), config.asyncRefresh(),
+                config.staleEnabled(), config.nearCache(), config.originMinMs(), config.originMaxMs());
+
+        out.printf("%-8s %9s %7s %8s %6s %8s %8s %8s %8s %8s %8s %9s %9s %9s%n",
+                "window", "requests", "errors", "origin", "dup", "lock+", "lock-", "early",
+                "f.hit", "f.take", "f.fail", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Window window : windows) {
+            printRow(out, (window.startMs() / 1000.0) + "s", window);
+        }
+        printRow(out, "total", total);
+        out.printf("throughput=%.1f req/s%n", throughputPerSec);
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), this);
+    }
+
+    private static void printRow(PrintStream out, String label, Window window) {
+        out.printf("%-8s %9d %7d %8d %6d %8d %8d %8d %8d %8d %8d %9.1f %9.1f %9.1f%n",
+                label, window.requests(), window.errors(), window.originCalls(), window.duplicateOriginCalls(),
+                window.lockAcquired(), window.lockLost(), window.earlyRefresh(),
+                window.followerHit(), window.followerTakeover(), window.followerFailure(),
+                window.p50Ms(), window.p99Ms(), window.p999Ms());
+    }
+}
@@ -0,0 +1,65 @@
+package com.f1v3.cache.simulator;
+
+import com.f1v3.cache.clients.api.SearchBookAdapter;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.harness.PerCacheHarness;
+import com.f1v3.cache.service.SearchBookUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+
+/**
+ * {@link PerCacheHarness}로 조립한 캐시 매니저와 {@link SearchBookUseCase}.
+ * <p>
+ * 실행 시마다 새 Redis 컨테이너를 띄우며, 애플리케이션과 같은 팔로워 적재 알림(Pub/Sub) 구독까지 연결합니다. (Docker 필요)
+ *
+ * @author Seungjo, Jeong
+ */
+class SimulatorCacheContext implements AutoCloseable {
+
+    static final String CACHE_NAME = "searchBook";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PerCacheHarness harness;
+    private final SearchBookUseCase searchBookUseCase;
+
+    SimulatorCacheContext(SimulationConfig config, SearchBookAdapter searchBookAdapter) throws IOException {
+        harness = new PerCacheHarness(config.redisImage(), properties(config), meterRegistry);
+        searchBookUseCase = new SearchBookUseCase(searchBookAdapter,
+                harness.perRedisCacheManager(), harness.reactivePerCacheManager());
+    }
+
+    SearchBookUseCase searchBookUseCase() {
+        return searchBookUseCase;
+    }
+
+    /**
+     * {@code per.cache.*} 지표의 누적값 (캐시 이름 태그 기준)
+     */
+    double count(String name, String... tags) {
+        var counter = meterRegistry.find(name).tag("cache", CACHE_NAME).tags(tags).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Override
+    public void close() throws Exception {
+        harness.close();
+    }
+
+    private static PerCacheProperties properties(SimulationConfig config) {
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.getLocal().setEnabled(config.nearCache());
+        properties.getRefresh().setAsync(config.asyncRefresh());
+        properties.setReplicaReads(false);      // 단일 노드이므로 복제본 읽기 경로는 의미가 없음
+
+        PerCacheProperties.CacheSpec searchBook = new PerCacheProperties.CacheSpec();
+        searchBook.setBeta(config.beta());
+        searchBook.setDefaultTtl(config.ttlMs());
+        searchBook.setLockTtlMs(config.lockTtlMs());
+        searchBook.setRetryAttempts(config.retryAttempts());
+        searchBook.setStaleEnabled(config.staleEnabled());
+        searchBook.setStaleTtlMs(config.staleTtlMs());
+        properties.getCaches().put(CACHE_NAME, searchBook);
+        return properties;
+    }
+}
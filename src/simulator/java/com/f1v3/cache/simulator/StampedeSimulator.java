@@ -0,0 +1,213 @@
+package com.f1v3.cache.simulator;
+
+import com.f1v3.cache.service.SearchBookUseCase;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM 내부 캐시 스탬피드 시뮬레이터.
+ * <p>
+ * {@link SearchBookUseCase}를 {@code threads}개의 가상 스레드가 쉬지 않고 호출하며(닫힌 부하 모델),
+ * 핫키/롱테일 키 비율과 TTL, 동시성, PER beta, 락/팔로워 설정을 바꿔 가며 같은 조건에서 비교할 수 있습니다.
+ * 결과는 TTL 윈도우별 원천 호출 수, 중복 원천 호출 수, 락 경합, 팔로워 결과와 p50/p99/p999 응답 시간입니다.
+ *
+ * <pre>
+ * ./gradlew simulate -PsimArgs="beta=1.0"
+ * ./gradlew simulate -PsimArgs="beta=3.0 output=build/results/simulator/beta3.json"
+ * </pre>
+ *
+ * @author Seungjo, Jeong
+ */
+public final class StampedeSimulator {
+
+    private final SimulationConfig config;
+    private final SimulatorCacheContext context;
+    private final SimulatedSearchBookAdapter origin;
+    private final long durationMs;
+    private final int windowCount;
+
+    private StampedeSimulator(SimulationConfig config, SimulatorCacheContext context,
+                              SimulatedSearchBookAdapter origin) {
+        this.config = config;
+        this.context = context;
+        this.origin = origin;
+        this.durationMs = TimeUnit.SECONDS.toMillis(config.durationSec());
+        this.windowCount = (int) ((durationMs + config.ttlMs() - 1) / config.ttlMs());
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationConfig config = SimulationConfig.from(args);
+        SimulatedSearchBookAdapter origin = new SimulatedSearchBookAdapter(config.originMinMs(), config.originMaxMs());
+
+        try (SimulatorCacheContext context = new SimulatorCacheContext(config, origin)) {
+            SimulationReport report = new StampedeSimulator(config, context, origin).run();
+            report.print(System.out);
+            report.write(Path.of(config.output()));
+            System.out.println("result: " + Path.of(config.output()).toAbsolutePath());
+        }
+    }
+
+    private SimulationReport run() throws Exception {
+        SearchBookUseCase searchBookUseCase = context.searchBookUseCase();
+
+        LongAdder[] errors = new LongAdder[windowCount];
+        Arrays.setAll(errors, i -> new LongAdder());
+        List<LatencySamples> samples = new ArrayList<>();
+        Counters[] boundaries = new Counters[windowCount + 1];
+
+        long start = System.currentTimeMillis();
+        long deadline = start + durationMs;
+        boundaries[0] = counters();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < config.threads(); i++) {
+                LatencySamples workerSamples = new LatencySamples();
+                samples.add(workerSamples);
+                SplittableRandom random = new SplittableRandom(config.seed() + i);
+                futures.add(workers.submit(() -> drive(searchBookUseCase, random, workerSamples, errors, start, deadline)));
+            }
+
+            // TTL 윈도우 경계마다 누적 지표를 기록 (마지막 윈도우는 실행 종료 시점까지)
+            for (int window = 1; window <= windowCount; window++) {
+                long boundary = Math.min(start + window * config.ttlMs(), deadline);
+                long sleepMs = boundary - System.currentTimeMillis();
+                if (sleepMs > 0) {
+                    Thread.sleep(sleepMs);
+                }
+                if (window < windowCount) {
+                    boundaries[window] = counters();
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        boundaries[windowCount] = counters();
+
+        return report(samples, errors, boundaries, System.currentTimeMillis() - start);
+    }
+
+    private void drive(SearchBookUseCase searchBookUseCase, SplittableRandom random, LatencySamples workerSamples,
+                       LongAdder[] errors, long start, long deadline) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (now >= deadline) {
+                return;
+            }
+
+            String query = nextQuery(random);
+            long begin = System.nanoTime();
+            try {
+                searchBookUseCase.search(query, 1);
+                workerSamples.add(now - start, System.nanoTime() - begin);
+            } catch (Exception e) {
+                // 팔로워가 끝내 값을 얻지 못한 경우 등: 응답 시간 표본에서 제외하고 오류로만 집계
+                errors[window(now - start)].increment();
+            }
+        }
+    }
+
+    private String nextQuery(SplittableRandom random) {
+        if (config.tailKeys() == 0 || random.nextDouble() < config.hotRatio()) {
+            return "hot_" + random.nextInt(config.hotKeys());
+        }
+        return "tail_" + random.nextInt(config.tailKeys());
+    }
+
+    private int window(long offsetMs) {
+        return (int) Math.min(offsetMs / config.ttlMs(), windowCount - 1);
+    }
+
+    private SimulationReport report(List<LatencySamples> samples, LongAdder[] errors, Counters[] boundaries,
+                                    long elapsedMs) {
+        int[] sizes = new int[windowCount];
+        int totalSize = 0;
+        for (LatencySamples workerSamples : samples) {
+            for (int i = 0; i < workerSamples.size(); i++) {
+                sizes[window(workerSamples.offsetMs(i))]++;
+            }
+            totalSize += workerSamples.size();
+        }
+
+        long[][] latencies = new long[windowCount][];
+        for (int window = 0; window < windowCount; window++) {
+            latencies[window] = new long[sizes[window]];
+        }
+        long[] all = new long[totalSize];
+        int[] filled = new int[windowCount];
+        int allFilled = 0;
+        for (LatencySamples workerSamples : samples) {
+            for (int i = 0; i < workerSamples.size(); i++) {
+                int window = window(workerSamples.offsetMs(i));
+                latencies[window][filled[window]++] = workerSamples.latencyNs(i);
+                all[allFilled++] = workerSamples.latencyNs(i);
+            }
+        }
+
+        List<SimulationReport.Window> windows = new ArrayList<>();
+        long totalErrors = 0;
+        for (int window = 0; window < windowCount; window++) {
+            Arrays.sort(latencies[window]);
+            long windowErrors = errors[window].sum();
+            totalErrors += windowErrors;
+            windows.add(boundaries[window + 1].minus(boundaries[window])
+                    .toWindow(window * config.ttlMs(), latencies[window], windowErrors));
+        }
+
+        Arrays.sort(all);
+        SimulationReport.Window total = boundaries[windowCount].minus(boundaries[0]).toWindow(0, all, totalErrors);
+        double throughput = (total.requests() + total.errors()) * 1000.0 / Math.max(1, elapsedMs);
+        return new SimulationReport(config, total, throughput, windows);
+    }
+
+    private Counters counters() {
+        return new Counters(
+                origin.calls(),
+                origin.duplicateCalls(),
+                (long) context.count("per.cache.lock", "outcome", "acquired"),
+                (long) context.count("per.cache.lock", "outcome", "lost"),
+                (long) context.count("per.cache.early.refresh"),
+                (long) context.count("per.cache.follower", "outcome", "hit"),
+                (long) context.count("per.cache.follower", "outcome", "takeover"),
+                (long) context.count("per.cache.follower", "outcome", "failure"));
+    }
+
+    /**
+     * 윈도우 경계 시점의 누적값. 윈도우 집계는 양 끝 경계의 차이입니다.
+     */
+    private record Counters(long originCalls, long duplicateOriginCalls, long lockAcquired, long lockLost,
+                            long earlyRefresh, long followerHit, long followerTakeover, long followerFailure) {
+
+        Counters minus(Counters other) {
+            return new Counters(
+                    originCalls - other.originCalls,
+                    duplicateOriginCalls - other.duplicateOriginCalls,
+                    lockAcquired - other.lockAcquired,
+                    lockLost - other.lockLost,
+                    earlyRefresh - other.earlyRefresh,
+                    followerHit - other.followerHit,
+                    followerTakeover - other.followerTakeover,
+                    followerFailure - other.followerFailure);
+        }
+
+        SimulationReport.Window toWindow(long startMs, long[] sortedLatenciesNs, long errors) {
+            return new SimulationReport.Window(
+                    startMs, sortedLatenciesNs.length, errors,
+                    originCalls, duplicateOriginCalls, lockAcquired, lockLost, earlyRefresh,
+                    followerHit, followerTakeover, followerFailure,
+                    LatencySamples.percentileMs(sortedLatenciesNs, 0.50),
+                    LatencySamples.percentileMs(sortedLatenciesNs, 0.99),
+                    LatencySamples.percentileMs(sortedLatenciesNs, 0.999));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.f1v3.cache.common.cache.admission;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.codec.JacksonCacheCodec;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheAdmissionPolicyTest {
+
+    private static final CacheCodec CODEC = new JacksonCacheCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("비활성화 상태라면 항상 저장한다")
+    void admitsEverythingWhenDisabled() {
+        PerCacheProperties properties = new PerCacheProperties();
+        CacheAdmissionPolicy admission = new CacheAdmissionPolicy(properties);
+
+        assertThat(admission.admit("java:1", 0, registry(properties).defaultPolicy())).isTrue();
+    }
+
+    @Test
+    @DisplayName("추정 빈도가 최소 빈도 이상이 되어야 저장한다")
+    void admitsAfterMinFrequency() {
+        PerCacheProperties properties = enabled(2, 300);
+        CacheAdmissionPolicy admission = new CacheAdmissionPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        admission.recordAccess("java:1", policy);
+        assertThat(admission.admit("java:1", 10, policy)).isFalse();
+
+        admission.recordAccess("java:1", policy);
+        assertThat(admission.admit("java:1", 10, policy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재계산이 오래 걸린 값은 빈도와 무관하게 저장한다")
+    void admitsExpensiveRecompute() {
+        PerCacheProperties properties = enabled(2, 300);
+        CacheAdmissionPolicy admission = new CacheAdmissionPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        admission.recordAccess("java:1", policy);
+        assertThat(admission.admit("java:1", 299, policy)).isFalse();
+        assertThat(admission.admit("java:1", 300, policy)).isTrue();
+        assertThat(admission.admit("never-seen", 300, policy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이름 있는 캐시만 저장 입장 정책을 켤 수 있다")
+    void appliesPerCacheSettings() {
+        PerCacheProperties properties = new PerCacheProperties();
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setAdmissionEnabled(true);
+        spec.setAdmissionMinFrequency(3);
+        properties.getCaches().put("searchBook", spec);
+
+        CacheAdmissionPolicy admission = new CacheAdmissionPolicy(properties);
+        CachePolicyRegistry registry = registry(properties);
+        CachePolicy searchBook = registry.get("searchBook");
+
+        admission.recordAccess("searchBook:java:1", searchBook);
+        admission.recordAccess("searchBook:java:1", searchBook);
+
+        assertThat(admission.admit("searchBook:java:1", 10, searchBook)).isFalse();
+        assertThat(admission.admit("java:1", 10, registry.defaultPolicy())).isTrue();
+
+        admission.recordAccess("searchBook:java:1", searchBook);
+        assertThat(admission.admit("searchBook:java:1", 10, searchBook)).isTrue();
+    }
+
+    private static PerCacheProperties enabled(int minFrequency, long expensiveRecomputeMs) {
+        PerCacheProperties properties = new PerCacheProperties();
+        PerCacheProperties.Admission admission = properties.getAdmission();
+        admission.setEnabled(true);
+        admission.setMinFrequency(minFrequency);
+        admission.setExpensiveRecomputeMs(expensiveRecomputeMs);
+        admission.setExpectedKeys(1024);
+        return properties;
+    }
+
+    private static CachePolicyRegistry registry(PerCacheProperties properties) {
+        return new CachePolicyRegistry(properties, CODEC, codecType -> CODEC);
+    }
+}
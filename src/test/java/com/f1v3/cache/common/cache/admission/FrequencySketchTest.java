@@ -0,0 +1,88 @@
+package com.f1v3.cache.common.cache.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("기록한 횟수만큼 빈도가 증가하고, 기록하지 않은 키는 0이다")
+    void incrementsFrequency() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("java:1");
+        }
+        sketch.increment("spring:1");
+
+        assertThat(sketch.frequency("java:1")).isEqualTo(3);
+        assertThat(sketch.frequency("spring:1")).isEqualTo(1);
+        assertThat(sketch.frequency("kotlin:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("4비트 카운터는 15에서 더 증가하지 않는다")
+    void saturatesAtMaxCount() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("java:1");
+        }
+
+        assertThat(sketch.frequency("java:1")).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("기록 횟수가 표본 크기에 도달하면 모든 카운터를 절반으로 줄인다")
+    void agesCountersAfterSampleSize() {
+        FrequencySketch sketch = new FrequencySketch(16);   // 너비 32, 표본 크기 320
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+        assertThat(sketch.frequency("hot")).isEqualTo(15);
+
+        int increments = 0;
+        while (sketch.frequency("hot") == 15 && increments < 1_000) {
+            sketch.increment("tail:" + increments++);
+        }
+
+        assertThat(increments).isLessThan(320);
+        assertThat(sketch.frequency("hot")).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("String#hashCode가 같은 키끼리 카운터를 공유하지 않는다")
+    void separatesKeysWithSameStringHashCode() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        assertThat("AaAa".hashCode()).isEqualTo("BBBB".hashCode()).isEqualTo("AaBB".hashCode());
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("AaAa");
+        }
+
+        assertThat(sketch.frequency("AaAa")).isEqualTo(5);
+        assertThat(sketch.frequency("BBBB")).isZero();
+        assertThat(sketch.frequency("AaBB")).isZero();
+    }
+
+    @Test
+    @DisplayName("기록하지 않은 키를 과대 추정하는 비율이 Count-Min 오차 한계 이내다")
+    void keepsFalsePositivesLow() {
+        // 너비 1024, 키 200개: 행별 점유율 약 18%, 4개 행 모두 겹칠 확률 약 0.1%
+        FrequencySketch sketch = new FrequencySketch(1024);
+        for (int i = 0; i < 200; i++) {
+            sketch.increment("seen:" + i);
+        }
+
+        int overestimated = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sketch.frequency("unseen:" + i) > 0) {
+                overestimated++;
+            }
+        }
+
+        assertThat(overestimated).isLessThan(50);
+    }
+}
@@ -0,0 +1,145 @@
+package com.f1v3.cache.common.cache.codec;
+
+import com.f1v3.cache.common.cache.exception.CacheException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressingCacheCodecTest {
+
+    private static final int THRESHOLD = 512;
+    private static final int LEVEL = 3;
+
+    private static final CacheCodec SMILE = new JacksonCacheCodec(new SmileMapper());
+    private static final CacheCodec JSON = new JacksonCacheCodec(new ObjectMapper());
+
+    // Zstd는 매직 넘버로 시작하지 않는 사전을 원본 내용(raw content) 사전으로 사용
+    private static final byte[] DICTIONARY =
+            "{\"title\":\"자바의 정석\",\"authors\":[\"남궁성\"],\"publisher\":\"도우출판\",\"isbn\":\"\"}"
+                    .repeat(8).getBytes(StandardCharsets.UTF_8);
+
+    record Book(String title, List<String> authors, String publisher, String isbn) {
+    }
+
+    record Page(String query, int page, List<Book> books) {
+    }
+
+    static Stream<CacheCodec> delegates() {
+        return Stream.of(SMILE, JSON);
+    }
+
+    @ParameterizedTest
+    @MethodSource("delegates")
+    @DisplayName("임계값 미만의 값은 헤더 없이 위임 Codec의 결과 그대로 저장한다")
+    void belowThresholdIsStoredPlain(CacheCodec delegate) {
+        CompressingCacheCodec codec = new CompressingCacheCodec(delegate, THRESHOLD, LEVEL, null);
+        Page value = page(1);
+
+        byte[] encoded = codec.encode(value);
+
+        assertThat(encoded).isEqualTo(delegate.encode(value));
+        assertThat(encoded.length).isLessThan(THRESHOLD);
+        assertThat(codec.decode(encoded, Page.class)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("delegates")
+    @DisplayName("임계값 이상의 값은 ZSTD 헤더를 붙여 압축하고 그대로 복원한다")
+    void compressesWithZstdHeader(CacheCodec delegate) {
+        CompressingCacheCodec codec = new CompressingCacheCodec(delegate, THRESHOLD, LEVEL, null);
+        Page value = page(50);
+
+        byte[] encoded = codec.encode(value);
+
+        assertThat(encoded[0]).isEqualTo(CompressingCacheCodec.ZSTD);
+        assertThat(encoded.length).isLessThan(delegate.encode(value).length);
+        assertThat(codec.decode(encoded, Page.class)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("delegates")
+    @DisplayName("사전이 있으면 ZSTD_DICT 헤더로 압축하고 같은 사전으로 복원한다")
+    void compressesWithDictionaryHeader(CacheCodec delegate) {
+        CompressingCacheCodec codec = new CompressingCacheCodec(delegate, THRESHOLD, LEVEL, DICTIONARY);
+        Page value = page(50);
+
+        byte[] encoded = codec.encode(value);
+
+        assertThat(encoded[0]).isEqualTo(CompressingCacheCodec.ZSTD_DICT);
+        assertThat(codec.decode(encoded, Page.class)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("압축 이득이 없으면 원본을 그대로 저장한다")
+    void fallsBackToPlainWhenCompressionDoesNotHelp() {
+        byte[] raw = new byte[4096];
+        new Random(42).nextBytes(raw);
+        raw[0] = '{';
+        CompressingCacheCodec codec = new CompressingCacheCodec(new BytesCodec(), THRESHOLD, LEVEL, null);
+
+        byte[] encoded = codec.encode(raw);
+
+        assertThat(encoded).isEqualTo(raw);
+        assertThat(codec.decode(encoded, byte[].class)).isEqualTo(raw);
+    }
+
+    @Test
+    @DisplayName("사전 압축된 값을 사전 없이 읽으면 CacheException을 던진다")
+    void failsToDecodeDictionaryPayloadWithoutDictionary() {
+        byte[] encoded = new CompressingCacheCodec(SMILE, THRESHOLD, LEVEL, DICTIONARY).encode(page(50));
+        CompressingCacheCodec withoutDictionary = new CompressingCacheCodec(SMILE, THRESHOLD, LEVEL, null);
+
+        assertThatThrownBy(() -> withoutDictionary.decode(encoded, Page.class))
+                .isInstanceOf(CacheException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("delegates")
+    @DisplayName("압축 도입 이전(헤더 없음)에 저장된 값도 그대로 읽는다")
+    void decodesLegacyPayloadsWithoutHeader(CacheCodec delegate) {
+        CompressingCacheCodec codec = new CompressingCacheCodec(delegate, THRESHOLD, LEVEL, DICTIONARY);
+
+        for (Page value : List.of(page(1), page(50))) {
+            byte[] legacy = delegate.encode(value);
+
+            assertThat(legacy[0]).isNotIn(CompressingCacheCodec.ZSTD, CompressingCacheCodec.ZSTD_DICT);
+            assertThat(codec.decode(legacy, Page.class)).isEqualTo(value);
+        }
+    }
+
+    private static Page page(int size) {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            books.add(new Book("자바의 정석 " + i, List.of("남궁성"), "도우출판", "89940" + i));
+        }
+        return new Page("자바", 1, books);
+    }
+
+    /**
+     * 압축되지 않는 바이트를 그대로 내보내는 Codec (압축 이득이 없는 경우 확인용)
+     */
+    private static class BytesCodec implements CacheCodec {
+
+        @Override
+        public byte[] encode(Object value) {
+            return (byte[]) value;
+        }
+
+        @Override
+        public <T> T decode(byte[] data, Class<T> clazz) {
+            return clazz.cast(data);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.f1v3.cache.common.cache.key;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheKeyHasherTest {
+
+    // MurmurHash3 x64 128비트(seed 0) 참조 구현의 {h1, h2}
+    // ("", 16바이트 미만, 16바이트 배수, 블록 + 나머지 경계 포함)
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''                                            | 0000000000000000 | 0000000000000000",
+            "hello                                         | cbd8a7b341bd9b02 | 5b1e906a48ae1d19",
+            "hello, world                                  | 342fac623a5ebc8e | 4cdcbc079642414d",
+            "19 Jan 2038 at 3:14:07 AM                     | b89e5988b737affc | 664fc2950231b2cb",
+            "The quick brown fox jumps over the lazy dog   | e34bbc7bbc071b6c | 7a433ca9c49a9347",
+            "The quick brown fox jumps over the lazy dog.  | cd99481f9ee902c9 | 695da1a38987b6e7"
+    })
+    @DisplayName("MurmurHash3 x64 128비트 참조 구현과 같은 값을 계산한다")
+    void matchesReferenceVectors(String input, String h1, String h2) {
+        long[] hash = CacheKeyHasher.hash128(input.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(hash[0]).isEqualTo(Long.parseUnsignedLong(h1, 16));
+        assertThat(hash[1]).isEqualTo(Long.parseUnsignedLong(h2, 16));
+    }
+
+    @Test
+    @DisplayName("앞 64비트는 11자 URL-safe Base64 키, 뒤 64비트는 8바이트 지문으로 사용한다")
+    void splitsDigestIntoKeyAndFingerprint() {
+        CacheKeyHasher.Digest digest = CacheKeyHasher.digest("hello");
+
+        assertThat(digest.key()).hasSize(11).isEqualTo(littleEndianBase64(0xcbd8a7b341bd9b02L));
+        assertThat(digest.fingerprint()).isEqualTo(littleEndian(0x5b1e906a48ae1d19L));
+    }
+
+    @Test
+    @DisplayName("원본 키 길이와 무관하게 키 길이가 일정하고 Redis 키에 쓸 수 있는 문자만 사용한다")
+    void producesFixedLengthUrlSafeKeys() {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String key = CacheKeyHasher.digest("searchBook:자바의 정석 " + "x".repeat(i % 300) + ":" + i).key();
+
+            assertThat(key).hasSize(11).matches("[A-Za-z0-9_-]+");
+            keys.add(key);
+        }
+
+        assertThat(keys).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("해시 키 전략의 엔트리 키는 prefix 뒤에 해시를 붙이고 지문을 함께 가진다")
+    void buildsHashedEntryKey() {
+        EntryKey hashed = EntryKey.hashed("searchBook:", "searchBook:java:1");
+        CacheKeyHasher.Digest digest = CacheKeyHasher.digest("searchBook:java:1");
+
+        assertThat(hashed.redisKey()).isEqualTo("searchBook:java:1");
+        assertThat(hashed.storageKey()).isEqualTo("searchBook:" + digest.key());
+        assertThat(hashed.fingerprint()).isEqualTo(digest.fingerprint());
+        assertThat(hashed.scriptKeys()).containsExactly(hashed.storageKey());
+
+        EntryKey raw = EntryKey.raw("searchBook:java:1");
+        assertThat(raw.storageKey()).isEqualTo("searchBook:java:1");
+        assertThat(raw.hasFingerprint()).isFalse();
+    }
+
+    private static byte[] littleEndian(long value) {
+        return ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+    }
+
+    private static String littleEndianBase64(long value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(littleEndian(value));
+    }
+}
@@ -0,0 +1,166 @@
+package com.f1v3.cache.common.cache.local;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalSingleFlightTest {
+
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final LocalSingleFlight singleFlight = new LocalSingleFlight();
+
+    @Test
+    @DisplayName("같은 키의 동시 execute 호출은 loader를 한 번만 실행하고 결과를 공유한다")
+    void coalescesConcurrentExecute() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "book";
+        };
+
+        List<String> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(start(() -> singleFlight.execute("book:1", String.class, loader), results));
+        assertThat(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // 리더가 loader를 실행 중인 동안 도착한 요청은 모두 리더의 결과를 기다림
+        for (int i = 0; i < 8; i++) {
+            threads.add(start(() -> singleFlight.execute("book:1", String.class, loader), results));
+        }
+        for (Thread follower : threads.subList(1, threads.size())) {
+            awaitParked(follower);
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TIMEOUT_MS);
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(9).containsOnly("book");
+        assertThat(singleFlight.isInFlight("book:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("lead의 loader가 실패하면 예외를 그대로 던지고 등록을 해제한다")
+    void leadDeregistersOnException() {
+        assertThatThrownBy(() -> singleFlight.lead("book:1", () -> {
+            throw new IllegalStateException("recompute failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.isInFlight("book:1")).isFalse();
+        assertThat(singleFlight.lead("book:1", () -> "book")).isEqualTo("book");
+    }
+
+    @Test
+    @DisplayName("leadAsync의 결과가 완료되면 진행 중에 합류한 팔로워도 같은 값으로 완료된다")
+    void leadAsyncCompletesFollowers() {
+        CompletableFuture<String> recompute = new CompletableFuture<>();
+        AtomicInteger followerLoads = new AtomicInteger();
+
+        CompletableFuture<String> leader = singleFlight.leadAsync("book:1", () -> recompute);
+        CompletableFuture<String> follower = singleFlight.executeAsync("book:1", String.class, () -> {
+            followerLoads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        CompletableFuture<String> joined = singleFlight.joinAsync("book:1", String.class);
+
+        assertThat(singleFlight.isInFlight("book:1")).isTrue();
+        assertThat(follower).isNotDone();
+
+        recompute.complete("book");
+
+        assertThat(leader.join()).isEqualTo("book");
+        assertThat(follower.join()).isEqualTo("book");
+        assertThat(joined.join()).isEqualTo("book");
+        assertThat(followerLoads).hasValue(0);
+        assertThat(singleFlight.isInFlight("book:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("executeAsync의 리더가 실패하면 팔로워도 같은 예외로 완료되고 등록이 해제된다")
+    void executeAsyncPropagatesFailureToFollowers() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = singleFlight.executeAsync("book:1", String.class, () -> load);
+        CompletableFuture<String> follower = singleFlight.executeAsync("book:1", String.class,
+                () -> CompletableFuture.completedFuture("other"));
+
+        load.completeExceptionally(new IllegalStateException("recompute failed"));
+
+        assertThatThrownBy(leader::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.isInFlight("book:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("PER 조기 갱신 중에는 join이 기다리지 않고, 미스(execute)만 갱신 결과에 합류한다")
+    void joinSkipsRefreshFlights() {
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        singleFlight.leadRefreshAsync("book:1", () -> refresh);
+
+        assertThat(singleFlight.join("book:1", String.class)).isNull();
+        assertThat(singleFlight.joinAsync("book:1", String.class)).isNull();
+
+        CompletableFuture<String> miss = singleFlight.executeAsync("book:1", String.class,
+                () -> CompletableFuture.completedFuture("other"));
+        refresh.complete("book");
+
+        assertThat(miss.join()).isEqualTo("book");
+        assertThat(singleFlight.join("book:1", String.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 진행 중인 키에서 lead를 호출하면 등록 없이 loader를 직접 실행한다")
+    void leadRunsDirectlyWhenAlreadyInFlight() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> follower = singleFlight.executeAsync("book:1", String.class, () -> load);
+
+        assertThat(singleFlight.lead("book:1", () -> "locked")).isEqualTo("locked");
+        assertThat(singleFlight.isInFlight("book:1")).isTrue();
+
+        load.complete("book");
+        assertThat(follower.join()).isEqualTo("book");
+    }
+
+    private static Thread start(Supplier<String> call, List<String> results) {
+        Thread thread = new Thread(() -> {
+            String result = call.get();
+            synchronized (results) {
+                results.add(result);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
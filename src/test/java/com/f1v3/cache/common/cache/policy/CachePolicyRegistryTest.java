@@ -0,0 +1,138 @@
+package com.f1v3.cache.common.cache.policy;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.codec.JacksonCacheCodec;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.exception.CacheException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachePolicyRegistryTest {
+
+    private static final CacheCodec CODEC = new JacksonCacheCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("캐시별 설정이 비어 있는 항목은 전역 설정을 사용한다")
+    void fallsBackToGlobalSettings() {
+        PerCacheProperties properties = globalSettings();
+        properties.getCaches().put("searchBook", new PerCacheProperties.CacheSpec());
+
+        CachePolicy searchBook = registry(properties).get("searchBook");
+
+        assertThat(searchBook.getKeyPrefix()).isEqualTo("searchBook:");
+        assertThat(searchBook.getBeta()).isEqualTo(2.0);
+        assertThat(searchBook.getDefaultTtl()).isEqualTo(600);
+        assertThat(searchBook.isAdaptiveTtlEnabled()).isTrue();
+        assertThat(searchBook.getAdaptiveMinTtlMs()).isEqualTo(2_000);
+        assertThat(searchBook.getAdaptiveMaxTtlMs()).isEqualTo(30_000);
+        assertThat(searchBook.isAdmissionEnabled()).isTrue();
+        assertThat(searchBook.getAdmissionMinFrequency()).isEqualTo(3);
+        assertThat(searchBook.getAdmissionExpensiveRecomputeMs()).isEqualTo(200);
+        assertThat(searchBook.getLocalMaxTtlMs()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("캐시별 설정이 있는 항목은 전역 설정을 덮어쓰며, 기본 정책은 전역 설정을 그대로 사용한다")
+    void overridesGlobalSettingsPerCache() {
+        PerCacheProperties properties = globalSettings();
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setBeta(0.5);
+        spec.setAdaptiveTtlEnabled(false);
+        spec.setAdaptiveMaxTtlMs(10_000L);
+        spec.setAdmissionMinFrequency(5);
+        spec.setLocalMaxTtlMs(100L);
+        properties.getCaches().put("searchBook", spec);
+
+        CachePolicyRegistry registry = registry(properties);
+        CachePolicy searchBook = registry.get("searchBook");
+
+        assertThat(searchBook.getBeta()).isEqualTo(0.5);
+        assertThat(searchBook.isAdaptiveTtlEnabled()).isFalse();
+        assertThat(searchBook.getAdaptiveMinTtlMs()).isEqualTo(2_000);
+        assertThat(searchBook.getAdaptiveMaxTtlMs()).isEqualTo(10_000);
+        assertThat(searchBook.getAdmissionMinFrequency()).isEqualTo(5);
+        assertThat(searchBook.getLocalMaxTtlMs()).isEqualTo(100);
+
+        CachePolicy defaultPolicy = registry.defaultPolicy();
+        assertThat(defaultPolicy.getKeyPrefix()).isEmpty();
+        assertThat(defaultPolicy.displayName()).isEqualTo("default");
+        assertThat(defaultPolicy.getBeta()).isEqualTo(2.0);
+        assertThat(defaultPolicy.isAdaptiveTtlEnabled()).isTrue();
+        assertThat(defaultPolicy.getAdaptiveMaxTtlMs()).isEqualTo(30_000);
+        assertThat(defaultPolicy.getLocalMaxTtlMs()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("캐시별 최소 TTL과 전역 최대 TTL을 합친 범위가 뒤집히면 기동에 실패한다")
+    void rejectsInvertedAdaptiveTtlRangeAfterFallback() {
+        PerCacheProperties properties = globalSettings();
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setAdaptiveMinTtlMs(60_000L);
+        properties.getCaches().put("searchBook", spec);
+
+        assertThatThrownBy(() -> registry(properties))
+                .isInstanceOf(CacheException.class)
+                .hasMessageContaining("searchBook");
+
+        // 적응형 TTL을 쓰지 않는 캐시는 범위를 검증하지 않음
+        spec.setAdaptiveTtlEnabled(false);
+        assertThat(registry(properties).get("searchBook").getAdaptiveMinTtlMs()).isEqualTo(60_000);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 16})
+    @DisplayName("저장 입장 최소 빈도가 4비트 카운터 범위(1~15)를 벗어나면 기동에 실패한다")
+    void rejectsAdmissionMinFrequencyOutOfRange(int minFrequency) {
+        PerCacheProperties properties = globalSettings();
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setAdmissionMinFrequency(minFrequency);
+        properties.getCaches().put("searchBook", spec);
+
+        assertThatThrownBy(() -> registry(properties)).isInstanceOf(CacheException.class);
+    }
+
+    @Test
+    @DisplayName("tracking 무효화 모드에서는 해시 키 전략을 사용할 수 없다")
+    void rejectsHashedKeysWithTrackingInvalidation() {
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.getLocal().setEnabled(true);
+        properties.getLocal().setInvalidationMode(PerCacheProperties.InvalidationMode.TRACKING);
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setKeyStrategy(PerCacheProperties.KeyStrategy.HASHED);
+        properties.getCaches().put("searchBook", spec);
+
+        assertThatThrownBy(() -> registry(properties)).isInstanceOf(CacheException.class);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 캐시 이름으로 조회하면 예외가 발생한다")
+    void rejectsUnknownCacheName() {
+        CachePolicyRegistry registry = registry(new PerCacheProperties());
+
+        assertThatThrownBy(() -> registry.get("searchBook")).isInstanceOf(CacheException.class);
+    }
+
+    private static PerCacheProperties globalSettings() {
+        PerCacheProperties properties = new PerCacheProperties();
+        properties.setBeta(2.0);
+        properties.setDefaultTtl(600);
+        properties.getAdaptiveTtl().setEnabled(true);
+        properties.getAdaptiveTtl().setMinTtlMs(2_000);
+        properties.getAdaptiveTtl().setMaxTtlMs(30_000);
+        properties.getAdmission().setEnabled(true);
+        properties.getAdmission().setMinFrequency(3);
+        properties.getAdmission().setExpensiveRecomputeMs(200);
+        properties.getLocal().setMaxTtlMs(500);
+        return properties;
+    }
+
+    private static CachePolicyRegistry registry(PerCacheProperties properties) {
+        return new CachePolicyRegistry(properties, CODEC, codecType -> CODEC);
+    }
+}
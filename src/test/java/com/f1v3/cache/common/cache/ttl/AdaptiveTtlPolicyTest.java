@@ -0,0 +1,120 @@
+package com.f1v3.cache.common.cache.ttl;
+
+import com.f1v3.cache.common.cache.codec.CacheCodec;
+import com.f1v3.cache.common.cache.codec.JacksonCacheCodec;
+import com.f1v3.cache.common.cache.config.PerCacheProperties;
+import com.f1v3.cache.common.cache.policy.CachePolicy;
+import com.f1v3.cache.common.cache.policy.CachePolicyRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveTtlPolicyTest {
+
+    private static final CacheCodec CODEC = new JacksonCacheCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("비활성화 상태라면 접근 빈도와 무관하게 캐시 정책의 defaultTtl을 사용한다")
+    void usesDefaultTtlWhenDisabled() {
+        PerCacheProperties properties = new PerCacheProperties();
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        hit(ttlPolicy, "java:1", policy, 100);
+
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, policy)).isEqualTo(policy.getDefaultTtl());
+    }
+
+    @Test
+    @DisplayName("접근 기록이 없는 키는 최소 TTL을 사용한다")
+    void usesMinTtlForColdKey() {
+        PerCacheProperties properties = enabled(1_000, 60_000);
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, policy)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("자주 읽히고 비싼 키는 최대 TTL을 넘지 않는다")
+    void clampsHotExpensiveKeyToMaxTtl() {
+        PerCacheProperties properties = enabled(1_000, 60_000);
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        // 최소 측정 구간(1초) 기준 초당 100회, 재계산 시간도 기준(500ms)의 20배이지만 각각 1로 정규화
+        hit(ttlPolicy, "java:1", policy, 100);
+
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, policy)).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("자주 읽히지만 재계산이 싼 키는 TTL 범위의 중간값을 사용한다")
+    void usesMidpointForHotCheapKey() {
+        PerCacheProperties properties = enabled(1_000, 60_000);
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        hit(ttlPolicy, "java:1", policy, 100);
+
+        assertThat(ttlPolicy.ttlFor("java:1", 0, policy)).isEqualTo(30_500);
+    }
+
+    @Test
+    @DisplayName("TTL을 정하면 접근 카운터를 초기화하여 다음 저장은 그 사이의 빈도로 판단한다")
+    void resetsCounterAfterTtlFor() {
+        PerCacheProperties properties = enabled(1_000, 60_000);
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicy policy = registry(properties).defaultPolicy();
+
+        hit(ttlPolicy, "java:1", policy, 100);
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, policy)).isEqualTo(60_000);
+
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, policy)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("이름 있는 캐시는 자신의 TTL 범위 안에서 TTL을 정하고, 전역 설정이 꺼져 있어도 켤 수 있다")
+    void clampsToPerCacheRange() {
+        PerCacheProperties properties = new PerCacheProperties();
+        PerCacheProperties.CacheSpec spec = new PerCacheProperties.CacheSpec();
+        spec.setAdaptiveTtlEnabled(true);
+        spec.setAdaptiveMinTtlMs(5_000L);
+        spec.setAdaptiveMaxTtlMs(10_000L);
+        properties.getCaches().put("searchBook", spec);
+
+        AdaptiveTtlPolicy ttlPolicy = new AdaptiveTtlPolicy(properties);
+        CachePolicyRegistry registry = registry(properties);
+        CachePolicy searchBook = registry.get("searchBook");
+
+        assertThat(ttlPolicy.ttlFor("searchBook:java:1", 10_000, searchBook)).isEqualTo(5_000);
+
+        hit(ttlPolicy, "searchBook:java:1", searchBook, 100);
+        assertThat(ttlPolicy.ttlFor("searchBook:java:1", 10_000, searchBook)).isEqualTo(10_000);
+
+        CachePolicy defaultPolicy = registry.defaultPolicy();
+        hit(ttlPolicy, "java:1", defaultPolicy, 100);
+        assertThat(ttlPolicy.ttlFor("java:1", 10_000, defaultPolicy)).isEqualTo(defaultPolicy.getDefaultTtl());
+    }
+
+    private static void hit(AdaptiveTtlPolicy ttlPolicy, String key, CachePolicy policy, int times) {
+        for (int i = 0; i < times; i++) {
+            ttlPolicy.recordAccess(key, policy);
+        }
+    }
+
+    private static PerCacheProperties enabled(long minTtlMs, long maxTtlMs) {
+        PerCacheProperties properties = new PerCacheProperties();
+        PerCacheProperties.AdaptiveTtl adaptiveTtl = properties.getAdaptiveTtl();
+        adaptiveTtl.setEnabled(true);
+        adaptiveTtl.setMinTtlMs(minTtlMs);
+        adaptiveTtl.setMaxTtlMs(maxTtlMs);
+        return properties;
+    }
+
+    private static CachePolicyRegistry registry(PerCacheProperties properties) {
+        return new CachePolicyRegistry(properties, CODEC, codecType -> CODEC);
+    }
+}
@@ -0,0 +1,124 @@
+package com.f1v3.cache.common.normalizer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryNormalizerTest {
+
+    // 단일 스캔 구현 이전의 정규식 구현 (결과 비교 기준, 기본 Locale 영향을 없애기 위해 Locale.ROOT 사용)
+    private static final Pattern WHITE_SPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^가-힣a-z0-9]");
+
+    // 한글, 한글 자모, 영문 대소문자, 숫자, 여러 종류의 공백, 특수문자, 대소문자 변환이 특이한 문자, 서로게이트 쌍
+    private static final String ALPHABET =
+            "aZ09가힣ㄱ \t\n　 !?-_.:İıKＡßΣé😀";
+
+    private static String legacyNormalize(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return "";
+        }
+
+        String normalizedQuery = WHITE_SPACE.matcher(query).replaceAll("");
+        normalizedQuery = normalizedQuery.toLowerCase(Locale.ROOT);
+        return NON_ALPHANUMERIC.matcher(normalizedQuery).replaceAll("");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", " ", "\t\n", "자바의 정석", "  Spring   Boot 3 ", "JAVA\tBook\nClub", "C++ / C#",
+            "토비의 스프링 3.1", "İstanbul", "Kelvin", "Ｊａｖａ", "Straße", "ㄱㄴㄷ 가나다", "😀 emoji 😀",
+            "Effective Java, 3rd Edition (Joshua Bloch) - Addison-Wesley Professional 2018 Paperback Edition"
+    })
+    @DisplayName("정규식 구현과 같은 결과를 반환한다")
+    void matchesLegacyImplementation(String query) {
+        assertThat(QueryNormalizer.normalize(query)).isEqualTo(legacyNormalize(query));
+    }
+
+    @Test
+    @DisplayName("무작위 검색어에서도 정규식 구현과 같은 결과를 반환한다")
+    void matchesLegacyImplementationOnRandomQueries() {
+        Random random = new Random(7);
+        int[] codePoints = ALPHABET.codePoints().toArray();
+
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder query = new StringBuilder();
+            int length = random.nextInt(100);
+            for (int j = 0; j < length; j++) {
+                query.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+            }
+
+            assertThat(QueryNormalizer.normalize(query.toString()))
+                    .as("query=%s", query)
+                    .isEqualTo(legacyNormalize(query.toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("null은 빈 문자열로 정규화한다")
+    void normalizesNullToEmpty() {
+        assertThat(QueryNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기본 Locale과 무관하게 소문자로 변환한다")
+    void lowercasesIndependentOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            // 터키어 Locale의 String#toLowerCase()라면 'I'는 점 없는 'ı'가 되어 제거됨
+            assertThat(QueryNormalizer.normalize("JAVA IDE")).isEqualTo("javaide");
+            assertThat(QueryNormalizer.normalize("İstanbul")).isEqualTo("istanbul");
+            assertThat(QueryNormalizer.normalize("Kotlin")).isEqualTo("kotlin");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 정규화된 검색어는 같은 인스턴스를 반환한다")
+    void returnsSameInstanceWhenAlreadyNormalized() {
+        String query = "alreadynormalized" + System.nanoTime();
+
+        assertThat(QueryNormalizer.normalize(query)).isSameAs(query);
+    }
+
+    @Test
+    @DisplayName("정규화 결과가 같은 검색어는 intern 테이블의 인스턴스를 재사용한다")
+    void reusesInternedInstance() {
+        String suffix = Long.toString(System.nanoTime());
+
+        String first = QueryNormalizer.normalize("Spring Boot " + suffix);
+        String second = QueryNormalizer.normalize("  SPRING-boot\t" + suffix);
+
+        assertThat(second).isEqualTo("springboot" + suffix).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("64자를 넘는 검색어는 intern 테이블에 넣지 않는다")
+    void doesNotInternLongQueries() {
+        String longQuery = "Java ".repeat(20);
+
+        String first = QueryNormalizer.normalize(longQuery);
+        String second = QueryNormalizer.normalize(longQuery);
+
+        assertThat(first).hasSize(80).isEqualTo(legacyNormalize(longQuery));
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("64자를 넘더라도 이미 정규화된 검색어는 같은 인스턴스를 반환한다")
+    void returnsSameInstanceForLongNormalizedQuery() {
+        String longQuery = "java".repeat(20);
+
+        assertThat(QueryNormalizer.normalize(longQuery)).isSameAs(longQuery);
+    }
+}